@@ -0,0 +1,44 @@
+package com.sparta.wildcard_newsfeed.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 게시물 단건 조회 캐시
+ * 크기 + TTL 로 제한하고, 무효화는 트랜잭션 커밋 이후에 반영한다 (커밋 전 값이 다시 캐시되는 것 방지).
+ * hit/miss/eviction 지표는 /actuator/metrics/cache.gets, cache.evictions 로 확인한다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String POST_DETAIL = "postDetail";
+    public static final String POST_COMMENTS = "postComments";
+
+    @Value("${newsfeed.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${newsfeed.cache.expire-after-write:30s}")
+    private Duration expireAfterWrite;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats());
+        cacheManager.setCacheNames(List.of(POST_DETAIL, POST_COMMENTS));
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparta.wildcard_newsfeed.config;
+
+import com.sparta.wildcard_newsfeed.domain.file.storage.LocalObjectStorage;
+import com.sparta.wildcard_newsfeed.domain.file.storage.ObjectStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(name = "newsfeed.storage.type", havingValue = "local")
+public class LocalStorageConfig {
+
+    @Bean
+    public ObjectStorage objectStorage(@Value("${newsfeed.storage.local.root:./storage}") Path root,
+                                       @Value("${newsfeed.storage.local.base-url:}") String baseUrl) throws IOException {
+        return new LocalObjectStorage(root, baseUrl);
+    }
+}
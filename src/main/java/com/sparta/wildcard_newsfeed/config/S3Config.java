@@ -1,14 +1,23 @@
 package com.sparta.wildcard_newsfeed.config;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.retry.PredefinedRetryPolicies;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.sparta.wildcard_newsfeed.domain.file.storage.ObjectStorage;
+import com.sparta.wildcard_newsfeed.domain.file.storage.S3ObjectStorage;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 @Configuration
+@ConditionalOnProperty(name = "newsfeed.storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
     @Value("${cloud.aws.credentials.access-key}")
@@ -20,13 +29,42 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    // 클라이언트는 하나만 만들어 커넥션 풀을 공유한다
+    @Value("${newsfeed.storage.s3.max-connections:50}")
+    private int maxConnections;
+    @Value("${newsfeed.storage.s3.connection-timeout:10s}")
+    private Duration connectionTimeout;
+    @Value("${newsfeed.storage.s3.socket-timeout:50s}")
+    private Duration socketTimeout;
+    @Value("${newsfeed.storage.s3.max-error-retry:3}")
+    private int maxErrorRetry;
+
+    @Value("${newsfeed.file.multipart-threshold:16MB}")
+    private DataSize multipartThreshold;
+    @Value("${newsfeed.file.multipart-part-size:8MB}")
+    private DataSize multipartPartSize;
+
     @Bean
     public AmazonS3Client amazonS3Client() {
         BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
+        ClientConfiguration clientConfiguration = new ClientConfiguration()
+                .withMaxConnections(maxConnections)
+                .withConnectionTimeout((int) connectionTimeout.toMillis())
+                .withSocketTimeout((int) socketTimeout.toMillis())
+                .withRetryPolicy(PredefinedRetryPolicies.getDefaultRetryPolicyWithCustomMaxRetries(maxErrorRetry));
 
         return (AmazonS3Client) AmazonS3ClientBuilder.standard()
                 .withRegion(region)
                 .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
+                .withClientConfiguration(clientConfiguration)
                 .build();
     }
-}
\ No newline at end of file
+
+    @Bean
+    public ObjectStorage objectStorage(AmazonS3Client amazonS3Client) {
+        return new S3ObjectStorage(amazonS3Client, bucket, multipartThreshold, multipartPartSize);
+    }
+}
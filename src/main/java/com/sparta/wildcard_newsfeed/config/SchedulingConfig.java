@@ -0,0 +1,14 @@
+package com.sparta.wildcard_newsfeed.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 스케줄러
+ * 기본 스레드는 1개라 오래 걸리는 작업(좋아요 수 보정, 파일 정리)이 좋아요 반영을 멈추게 하므로,
+ * 스레드 수는 spring.task.scheduling.pool.size 로 늘려 둔다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,27 @@
+package com.sparta.wildcard_newsfeed.config;
+
+import com.sparta.wildcard_newsfeed.security.jwt.store.InMemoryRefreshTokenStore;
+import com.sparta.wildcard_newsfeed.security.jwt.store.InMemoryRevokedTokenStore;
+import com.sparta.wildcard_newsfeed.security.jwt.store.RefreshTokenStore;
+import com.sparta.wildcard_newsfeed.security.jwt.store.RevokedTokenStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// 토큰 저장소 - 여러 서버가 공유해야 하면 이 빈을 외부 저장소 구현으로 바꾼다
+@Configuration
+public class TokenStoreConfig {
+
+    @Bean
+    public RefreshTokenStore refreshTokenStore() {
+        return new InMemoryRefreshTokenStore();
+    }
+
+    @Bean
+    public RevokedTokenStore revokedTokenStore(
+            @Value("${newsfeed.jwt.revoked-store.bucket-size:1m}") Duration bucketSize) {
+        return new InMemoryRevokedTokenStore(bucketSize.toMillis());
+    }
+}
@@ -3,8 +3,11 @@ package com.sparta.wildcard_newsfeed.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
 import com.sparta.wildcard_newsfeed.security.AuthenticationUserService;
+import com.sparta.wildcard_newsfeed.security.BoundedPasswordEncoder;
 import com.sparta.wildcard_newsfeed.security.jwt.*;
+import com.sparta.wildcard_newsfeed.security.jwt.store.RevokedTokenStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -19,6 +22,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 import static com.sparta.wildcard_newsfeed.config.SwaggerConstants.SWAGGER_PATTERNS;
 
 @Configuration
@@ -27,17 +32,23 @@ import static com.sparta.wildcard_newsfeed.config.SwaggerConstants.SWAGGER_PATTE
 public class WebSecurityConfig {
 
     private final JwtUtil jwtUtil;
+    private final AuthenticationUserService authenticationUserService;
     private final ObjectMapper objectMapper;
     private final AuthenticationConfiguration authenticationConfiguration;
-    private final AuthenticationUserService authenticationUserService;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtLogoutSuccessHandler jwtLogoutSuccessHandler;
     private final JwtLogoutHandler jwtLogoutHandler;
     private final UserRepository userRepository;
+    private final RefreshTokenManager refreshTokenManager;
+    private final RevokedTokenStore revokedTokenStore;
 
+    // BCrypt 는 요청 스레드가 아닌 전용 풀에서 동시 실행 수를 제한해 처리
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${newsfeed.password-hash.concurrency:4}") int concurrency,
+            @Value("${newsfeed.password-hash.queue-capacity:16}") int queueCapacity,
+            @Value("${newsfeed.password-hash.timeout:1s}") Duration timeout) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), concurrency, queueCapacity, timeout);
     }
 
     @Bean
@@ -47,14 +58,14 @@ public class WebSecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() throws Exception {
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(objectMapper, jwtUtil, userRepository);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(objectMapper, jwtUtil, userRepository, refreshTokenManager);
         filter.setAuthenticationManager(authenticationManager(authenticationConfiguration));
         return filter;
     }
 
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
-        return new JwtAuthorizationFilter(jwtUtil, authenticationUserService, userRepository);
+        return new JwtAuthorizationFilter(jwtUtil, authenticationUserService, refreshTokenManager, revokedTokenStore);
     }
 
     @Bean
@@ -72,8 +83,12 @@ public class WebSecurityConfig {
                 .requestMatchers(HttpMethod.POST, "/api/v1/auth/reissue").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/v1/user/signup").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/user/**").permitAll()
+                // 전체 내보내기는 응답이 끝날 때까지 DB 커넥션을 점유하므로 로그인한 사용자만
+                .requestMatchers(HttpMethod.GET, "/api/v1/post/export").authenticated()
                 .requestMatchers(HttpMethod.GET, "/api/v1/post/**").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/v1/post/page").permitAll() //게시글 페이지는 로그인x
+                .requestMatchers(HttpMethod.POST, "/api/v1/post/page/slice").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/v1/post/page/cursor").permitAll()
                 .anyRequest().authenticated()
         );
 
@@ -1,5 +1,6 @@
 package com.sparta.wildcard_newsfeed.domain.comment.controller;
 
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCursorResponseDto;
 import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentRequestDto;
 import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto;
 import com.sparta.wildcard_newsfeed.domain.comment.service.CommentService;
@@ -31,6 +32,28 @@ public class CommentController {
 
     private final CommentService commentService;
 
+    // 댓글 목록 조회 (커서 기반)
+    @GetMapping
+    @Operation(summary = "댓글 목록 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CommonResponseDto.class)))
+    })
+    public ResponseEntity<CommonResponseDto<CommentCursorResponseDto>> getComments(
+            @PathVariable(name = "postId") long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        CommentCursorResponseDto commentPage = commentService.getCommentPage(postId, cursor, size);
+        return ResponseEntity.ok()
+                .body(CommonResponseDto.<CommentCursorResponseDto>builder()
+                        .statusCode(HttpStatus.OK.value())
+                        .message("댓글 목록 조회 성공")
+                        .data(commentPage)
+                        .build());
+    }
+
     // 댓글 추가
     @PostMapping
     @Operation(summary = "댓글 등록")
@@ -0,0 +1,16 @@
+package com.sparta.wildcard_newsfeed.domain.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CommentCursorResponseDto {
+    private List<CommentResponseDto> comments;
+    private String nextCursor; // 다음 페이지가 없으면 null
+    private boolean hasNext;
+}
@@ -1,5 +1,6 @@
 package com.sparta.wildcard_newsfeed.domain.comment.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,9 +13,22 @@ import java.util.List;
 public class PostWithCommentsResponseDto {
     private PostResponseDto post;
     private List<CommentResponseDto> comments;
+    // 댓글은 첫 페이지만 포함, 이후는 /api/v1/post/{postId}/comment?cursor= 로 조회
+    private String nextCommentCursor;
+    private boolean hasNextComments;
+    // 이 본문으로 계산한 ETag - 캐시에 본문과 함께 보관되므로 응답 본문과 항상 일치한다
+    @JsonIgnore
+    private String etag;
 
     public PostWithCommentsResponseDto(PostResponseDto post, List<CommentResponseDto> comments) {
         this.post = post;
         this.comments = comments;
     }
-}
\ No newline at end of file
+
+    public PostWithCommentsResponseDto(PostResponseDto post, CommentCursorResponseDto commentPage) {
+        this.post = post;
+        this.comments = commentPage.getComments();
+        this.nextCommentCursor = commentPage.getNextCursor();
+        this.hasNextComments = commentPage.isHasNext();
+    }
+}
@@ -8,6 +8,9 @@ import lombok.*;
 
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_comment_post_created_at_id", columnList = "post_id, created_at, id")
+})
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
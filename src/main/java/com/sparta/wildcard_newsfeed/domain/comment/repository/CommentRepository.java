@@ -1,10 +1,49 @@
 package com.sparta.wildcard_newsfeed.domain.comment.repository;
 
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto;
 import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByPostId(long postId);
+
+    // 작성자 이름까지 한 번에 조회 (댓글마다 작성자를 따로 불러오지 않는다) - 첫 페이지
+    @Query("select new com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto(" +
+            "c.post.id, c.id, c.content, u.name, c.createdAt, c.updatedAt, c.likeCount) " +
+            "from Comment c join c.user u " +
+            "where c.post.id = :postId " +
+            "order by c.createdAt, c.id")
+    List<CommentResponseDto> findCommentResponsesByPostId(@Param("postId") long postId, Pageable pageable);
+
+    // 커서 기반 페이지네이션 - (created_at, id) 이후의 댓글만 읽는다 (comment(post_id, created_at, id) 인덱스 사용)
+    @Query("select new com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto(" +
+            "c.post.id, c.id, c.content, u.name, c.createdAt, c.updatedAt, c.likeCount) " +
+            "from Comment c join c.user u " +
+            "where c.post.id = :postId " +
+            "and (c.createdAt > :cursorCreatedAt " +
+            "or (c.createdAt = :cursorCreatedAt and c.id > :cursorId)) " +
+            "order by c.createdAt, c.id")
+    List<CommentResponseDto> findCommentResponsesByPostIdAfter(@Param("postId") long postId,
+                                                               @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                               @Param("cursorId") Long cursorId,
+                                                               Pageable pageable);
+
+    // 좋아요 수 증감은 DB 에서 원자적으로 처리 (읽고-수정-쓰기 과정에서 갱신 손실 방지)
+    @Modifying
+    @Query("update Comment c set c.likeCount = coalesce(c.likeCount, 0) + :delta where c.id = :id")
+    int increaseLikeCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Query("select c.user.id from Comment c where c.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    @Query("select c.post.id from Comment c where c.id = :id")
+    Optional<Long> findPostIdById(@Param("id") Long id);
 }
\ No newline at end of file
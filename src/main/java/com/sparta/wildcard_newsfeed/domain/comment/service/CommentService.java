@@ -1,5 +1,8 @@
 package com.sparta.wildcard_newsfeed.domain.comment.service;
 
+import com.sparta.wildcard_newsfeed.config.CacheConfig;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCursor;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCursorResponseDto;
 import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentRequestDto;
 import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto;
 import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
@@ -12,22 +15,32 @@ import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
 
+    @Value("${newsfeed.comment.first-page-size:20}")
+    private int firstPageSize;
+
+    @CacheEvict(cacheNames = {CacheConfig.POST_DETAIL, CacheConfig.POST_COMMENTS}, key = "#postId")
     @Transactional
     public CommentResponseDto addComment(long postId, CommentRequestDto request, AuthenticationUser user) {
         User byUsercode = userRepository.findByUsercode(user.getUsername())
@@ -39,6 +52,7 @@ public class CommentService {
         return new CommentResponseDto(comment);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.POST_DETAIL, CacheConfig.POST_COMMENTS}, key = "#postId")
     public CommentResponseDto updateComment(long postId, long commentId, CommentRequestDto request, AuthenticationUser user) {
         // DB에 게시물이 존재하지 않는 경우
         findPostById(postId);
@@ -55,6 +69,7 @@ public class CommentService {
         return new CommentResponseDto(comment);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.POST_DETAIL, CacheConfig.POST_COMMENTS}, key = "#postId")
     public void deleteComment(long postId, long commentId, String username) {
         // DB에 게시물이 존재하지 않는 경우
         findPostById(postId);
@@ -70,12 +85,45 @@ public class CommentService {
         commentRepository.delete(comment);
     }
 
-    public List<CommentResponseDto> findAllCommentsByPostId(long postId) {
-        // 해당 postId와 연관된 댓글을 조회하는 로직 구현
-        List<Comment> comments = commentRepository.findByPostId(postId);
-        return comments.stream()
-                .map(CommentResponseDto::new)
-                .collect(Collectors.toList());
+    // 커서 기반 페이지네이션 - 오래된 댓글부터 (createdAt, id) 순
+    // 기본 크기의 첫 페이지만 캐시한다
+    @Cacheable(cacheNames = CacheConfig.POST_COMMENTS, key = "#postId", condition = "#cursor == null && #size == null")
+    public CommentCursorResponseDto getCommentPage(long postId, String cursor, Integer size) {
+        int pageSize = size == null ? firstPageSize : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하만 가능합니다.");
+        }
+        CommentCursor commentCursor = cursor == null || cursor.isBlank() ? null : CommentCursor.decode(cursor);
+
+        CommentCursorResponseDto commentPage = findCommentPage(postId, commentCursor, pageSize);
+        // 댓글이 없을 때만 게시물 존재 여부 확인
+        if (commentPage.getComments().isEmpty() && commentCursor == null && !postRepository.existsById(postId)) {
+            throw new IllegalArgumentException("해당 게시물이 존재하지 않습니다.");
+        }
+        return commentPage;
+    }
+
+    // 게시물 단건 조회에 포함되는 첫 페이지 - 게시물 존재 여부는 호출하는 쪽에서 확인한다
+    public CommentCursorResponseDto getFirstCommentPage(long postId) {
+        return findCommentPage(postId, null, firstPageSize);
+    }
+
+    private CommentCursorResponseDto findCommentPage(long postId, CommentCursor cursor, int size) {
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<CommentResponseDto> commentList = cursor == null
+                ? commentRepository.findCommentResponsesByPostId(postId, pageable)
+                : commentRepository.findCommentResponsesByPostIdAfter(postId, cursor.getCreatedAt(), cursor.getId(), pageable);
+
+        boolean hasNext = commentList.size() > size;
+        List<CommentResponseDto> comments = hasNext ? commentList.subList(0, size) : commentList;
+        String nextCursor = hasNext ? CommentCursor.from(comments.get(comments.size() - 1)).encode() : null;
+
+        return CommentCursorResponseDto.builder()
+                .comments(comments)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     public Comment findCommentById(Long commentId) {
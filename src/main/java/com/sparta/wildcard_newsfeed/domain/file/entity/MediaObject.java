@@ -0,0 +1,36 @@
+package com.sparta.wildcard_newsfeed.domain.file.entity;
+
+import com.sparta.wildcard_newsfeed.domain.common.TimeStampEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저장소에 올라간 파일 - 내용(SHA-256)이 같으면 하나만 저장하고 참조 수로 관리한다
+ */
+@Getter
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_media_object_url", columnList = "url")
+})
+@NoArgsConstructor
+public class MediaObject extends TimeStampEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 파일 내용의 SHA-256 (hex)
+    @Column(nullable = false, unique = true, length = 64)
+    private String digest;
+
+    @Column(nullable = false)
+    private String storageKey;
+
+    // 저장이 끝나기 전에는 null
+    private String url;
+
+    private long fileSize;
+
+    // 이 파일을 사용하는 게시물 미디어, 프로필 이미지 수
+    private int refCount;
+}
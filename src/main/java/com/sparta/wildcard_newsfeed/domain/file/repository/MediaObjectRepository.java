@@ -0,0 +1,55 @@
+package com.sparta.wildcard_newsfeed.domain.file.repository;
+
+import com.sparta.wildcard_newsfeed.domain.file.entity.MediaObject;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface MediaObjectRepository extends JpaRepository<MediaObject, Long> {
+
+    // 처음 보는 내용이면 참조 수 1 로 추가하고, 이미 있으면 digest 유니크 키에 걸려 참조 수만 늘린다
+    @Modifying
+    @Query(value = "insert into media_object (digest, storage_key, file_size, ref_count, created_at, updated_at) " +
+            "values (:digest, :storageKey, :fileSize, 1, now(6), now(6)) " +
+            "on duplicate key update ref_count = ref_count + 1, updated_at = now(6)", nativeQuery = true)
+    int acquire(@Param("digest") String digest, @Param("storageKey") String storageKey, @Param("fileSize") long fileSize);
+
+    // 저장이 끝난 파일만 주소가 있다
+    @Query("select m.url from MediaObject m where m.digest = :digest")
+    Optional<String> findUrlByDigest(@Param("digest") String digest);
+
+    // 먼저 추가된 행의 key - 같은 내용이 다른 확장자로 올라와도 저장소에는 이 key 로만 저장한다
+    @Query("select m.storageKey from MediaObject m where m.digest = :digest")
+    String findStorageKeyByDigest(@Param("digest") String digest);
+
+    @Modifying
+    @Query("update MediaObject m set m.url = :url where m.digest = :digest")
+    int markStored(@Param("digest") String digest, @Param("url") String url);
+
+    @Modifying
+    @Query("update MediaObject m set m.refCount = m.refCount - 1, m.updatedAt = :now " +
+            "where m.digest = :digest and m.refCount > 0")
+    int releaseByDigest(@Param("digest") String digest, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update MediaObject m set m.refCount = m.refCount - 1, m.updatedAt = :now " +
+            "where m.url = :url and m.refCount > 0")
+    int releaseByUrl(@Param("url") String url, @Param("now") LocalDateTime now);
+
+    // 참조가 없어진 지 일정 시간이 지난 파일
+    @Query("select m.id from MediaObject m where m.refCount <= 0 and m.updatedAt < :before order by m.id")
+    List<Long> findUnreferencedIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    // 삭제하는 동안 같은 내용의 업로드가 참조 수를 늘리지 못하도록 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from MediaObject m where m.id = :id and m.refCount <= 0")
+    Optional<MediaObject> findUnreferencedForUpdate(@Param("id") Long id);
+}
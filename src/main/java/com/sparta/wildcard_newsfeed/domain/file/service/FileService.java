@@ -1,57 +1,235 @@
 package com.sparta.wildcard_newsfeed.domain.file.service;
 
+import com.sparta.wildcard_newsfeed.domain.file.entity.MediaObject;
+import com.sparta.wildcard_newsfeed.domain.file.repository.MediaObjectRepository;
+import com.sparta.wildcard_newsfeed.domain.file.storage.ObjectStorage;
 import com.sparta.wildcard_newsfeed.exception.customexception.FileException;
 import com.sparta.wildcard_newsfeed.util.FileUtils;
-import com.sparta.wildcard_newsfeed.util.S3FileUtils;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 파일 업로드
+ * 저장소 key 는 파일 내용의 SHA-256 이므로 같은 파일은 한 번만 저장된다.
+ * 이미 저장된 내용이면 전송하지 않고 참조 수만 늘리며,
+ * 참조가 없어진 파일은 유예 시간이 지난 뒤 저장소에서 지운다.
+ *
+ * 업로드 파일은 해시할 때와 전송할 때 두 번 읽는다.
+ * 전송하면서 해시하면(임시 key 로 올린 뒤 복사) 이미 저장된 내용도 매번 네트워크로 보내야 해서 중복 제거의 의미가 없고,
+ * 복사 요청과 임시 객체 정리가 더 필요하다. 두 번째 읽기는 컨테이너가 받아 둔 임시 파일(spring.servlet.multipart.location)
+ * 이나 대기 폴더의 로컬 디스크 읽기라 저장소 전송보다 훨씬 싸고, 중복 파일이면 전송 자체를 건너뛴다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class FileService {
 
+    private static final int UPLOAD_QUEUE_CAPACITY = 100;
+
     private final FileUtils fileUtils;
-    private final S3FileUtils s3FileUtils;
+    private final ObjectStorage objectStorage;
+    private final MediaObjectRepository mediaObjectRepository;
+    private final TransactionTemplate transactionTemplate;
+    // 여러 파일 업로드용 - 스레드 수를 제한하고, 대기열이 가득 차면 요청 스레드가 직접 업로드한다
+    private final ThreadPoolExecutor uploadExecutor;
+    private final Duration purgeGrace;
+    private final int purgeBatchSize;
 
-    public File saveFileToLocal(MultipartFile multipartFile, String uuidFileName) {
-        String localLocation = fileUtils.getAbsoluteUploadFolder();
-        String fullFilePath = localLocation + uuidFileName;
+    public FileService(FileUtils fileUtils,
+                       ObjectStorage objectStorage,
+                       MediaObjectRepository mediaObjectRepository,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${newsfeed.file.upload-concurrency:8}") int uploadConcurrency,
+                       @Value("${newsfeed.file.dedup.purge-grace:1h}") Duration purgeGrace,
+                       @Value("${newsfeed.file.dedup.purge-batch-size:100}") int purgeBatchSize) {
+        this.fileUtils = fileUtils;
+        this.objectStorage = objectStorage;
+        this.mediaObjectRepository = mediaObjectRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.purgeGrace = purgeGrace;
+        this.purgeBatchSize = purgeBatchSize;
+        this.uploadExecutor = new ThreadPoolExecutor(uploadConcurrency, uploadConcurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(UPLOAD_QUEUE_CAPACITY),
+                new CustomizableThreadFactory("file-upload-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
 
-        File saveFile = new File(fullFilePath);
-        try {
-            multipartFile.transferTo(saveFile);
-        } catch (IOException e) {
-            throw new FileException("local에 파일을 저장할 수 없습니다.", e);
-        }
-        return saveFile;
+    @PreDestroy
+    public void destroy() {
+        uploadExecutor.shutdown();
     }
 
+    // 업로드 파일을 로컬에 다시 저장하지 않고 바로 저장소(S3)로 스트리밍
     public String uploadFileToS3(MultipartFile multipartFile) {
-        String uuidFileName = fileUtils.createUuidFileName(multipartFile.getOriginalFilename());
-        File savedFile = saveFileToLocal(multipartFile, uuidFileName);
+        try {
+            // key 를 정하려면 전송 전에 내용을 알아야 하므로, 컨테이너가 받아 둔 업로드 파일을 한 번 읽어 해시한다
+            // (로컬 임시 파일을 한 번 더 읽는 비용으로 이미 저장된 내용의 전송을 건너뛴다 - 클래스 설명 참고)
+            String digest = digest(multipartFile);
+            String storageKey = createStorageKey(digest, multipartFile.getOriginalFilename());
+            return store(digest, storageKey, multipartFile, multipartFile.getSize(), multipartFile.getContentType());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileException("S3에 파일 업로드 실패", e);
+        } catch (Exception e) {
+            throw new FileException("S3에 파일 업로드 실패", e);
+        }
+    }
 
+    // 비동기 업로드 작업자가 대기 폴더의 파일을 올릴 때 사용
+    public String uploadFileToS3(Path path) {
+        String fileName = path.getFileName().toString();
+        InputStreamSource source = () -> Files.newInputStream(path);
         try {
-            String s3Url = s3FileUtils.uploadFile(uuidFileName, savedFile);
-            if (!deleteFileFromLocal(savedFile)) {
-                log.info("S3 업로드 후 로컬 파일 삭제 실패");
-            }
-            return s3Url;
+            String digest = digest(source);
+            String storageKey = createStorageKey(digest, fileName);
+            return store(digest, storageKey, source, Files.size(path), URLConnection.guessContentTypeFromName(fileName));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileException("S3에 파일 업로드 실패", e);
         } catch (Exception e) {
             throw new FileException("S3에 파일 업로드 실패", e);
         }
     }
 
-    public boolean deleteFileFromLocal(File savedFile) {
-        if (!savedFile.delete()) {
-            log.error("S3에 파일 저장 후 local 파일 삭제 실패");
-            return false;
+    /**
+     * 여러 파일을 동시에 업로드
+     * @return 요청한 파일 순서대로 S3 주소
+     */
+    public List<String> uploadFilesToS3(List<MultipartFile> multipartFiles) {
+        if (multipartFiles.size() == 1) {
+            return List.of(uploadFileToS3(multipartFiles.get(0)));
+        }
+
+        List<CompletableFuture<String>> uploads = multipartFiles.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> uploadFileToS3(file), uploadExecutor))
+                .toList();
+        try {
+            return uploads.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof FileException fileException) {
+                throw fileException;
+            }
+            throw new FileException("S3에 파일 업로드 실패", e.getCause());
+        }
+    }
+
+    /**
+     * 더 이상 사용하지 않는 파일의 참조 수를 줄인다
+     * 호출한 쪽의 트랜잭션이 있으면 함께 커밋/롤백된다
+     */
+    public void releaseFiles(List<String> urls) {
+        List<String> storedUrls = urls.stream().filter(Objects::nonNull).toList();
+        if (storedUrls.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status ->
+                storedUrls.forEach(url -> mediaObjectRepository.releaseByUrl(url, now)));
+    }
+
+    // 참조가 없는 파일 정리 - 유예 시간 안에 같은 파일이 다시 올라오면 그대로 재사용된다
+    @Scheduled(fixedDelayString = "${newsfeed.file.dedup.purge-interval:600000}")
+    public void purgeUnreferencedFiles() {
+        List<Long> ids = mediaObjectRepository.findUnreferencedIds(
+                LocalDateTime.now().minus(purgeGrace), PageRequest.of(0, purgeBatchSize));
+        for (Long id : ids) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> purge(id));
+            } catch (Exception e) {
+                log.warn("참조 없는 파일 삭제 실패 id={}", id, e);
+            }
+        }
+    }
+
+    private void purge(Long id) {
+        Optional<MediaObject> unreferenced = mediaObjectRepository.findUnreferencedForUpdate(id);
+        if (unreferenced.isEmpty()) {
+            return;
+        }
+        MediaObject mediaObject = unreferenced.get();
+        try {
+            // 잠금을 잡은 채로 지우므로, 같은 내용의 업로드는 행이 삭제된 뒤 다시 전송한다
+            objectStorage.delete(mediaObject.getStorageKey());
+        } catch (IOException e) {
+            throw new FileException("저장소 파일 삭제 실패", e);
+        }
+        mediaObjectRepository.delete(mediaObject);
+    }
+
+    /**
+     * 참조 수를 먼저 늘리고, 저장이 끝난 내용이면 전송을 건너뛴다
+     * 아직 주소가 없으면 (처음이거나 다른 요청이 올리는 중) 같은 key 로 직접 올린다 - 내용이 같으므로 덮어써도 결과가 같다
+     * key 는 요청한 값이 아닌 행에 기록된 값을 쓴다 (확장자만 다른 같은 내용이 동시에 올라와도 정리할 때 지울 파일이 하나)
+     */
+    private String store(String digest, String storageKey, InputStreamSource source, long size, String contentType)
+            throws IOException, InterruptedException {
+        StoredObject storedObject = transactionTemplate.execute(status -> {
+            mediaObjectRepository.acquire(digest, storageKey, size);
+            return new StoredObject(mediaObjectRepository.findStorageKeyByDigest(digest),
+                    mediaObjectRepository.findUrlByDigest(digest).orElse(null));
+        });
+        if (storedObject.url() != null) {
+            log.debug("이미 저장된 파일 재사용 {}", storedObject.storageKey());
+            return storedObject.url();
+        }
+
+        try (InputStream inputStream = source.getInputStream()) {
+            String url = objectStorage.upload(storedObject.storageKey(), inputStream, size, contentType);
+            transactionTemplate.executeWithoutResult(status -> mediaObjectRepository.markStored(digest, url));
+            return url;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status ->
+                    mediaObjectRepository.releaseByDigest(digest, LocalDateTime.now()));
+            throw e;
+        }
+    }
+
+    private record StoredObject(String storageKey, String url) {
+    }
+
+    private String createStorageKey(String digest, String originalFileName) {
+        return digest + "." + fileUtils.extractExtension(originalFileName).toLowerCase();
+    }
+
+    // 버퍼 하나로 흘려 읽으며 SHA-256 계산 - 파일 크기와 관계없이 메모리 사용량이 일정
+    private String digest(InputStreamSource source) throws IOException {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream inputStream = new DigestInputStream(source.getInputStream(), messageDigest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
         }
-        return true;
+        return HexFormat.of().formatHex(messageDigest.digest());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package com.sparta.wildcard_newsfeed.domain.file.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 로컬 디스크 저장소 - S3 없이 개발하거나 업로드 처리량을 측정할 때 사용
+ */
+public class LocalObjectStorage implements ObjectStorage {
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalObjectStorage(Path root, String baseUrl) throws IOException {
+        this.root = Files.createDirectories(root.toAbsolutePath().normalize());
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public String upload(String key, InputStream inputStream, long contentLength, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+
+        // 다 쓰기 전에는 다른 요청에서 보이지 않도록 임시 파일에 쓴 뒤 이동
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            long copied = Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+            if (copied != contentLength) {
+                throw new IOException("파일 크기가 일치하지 않습니다. expected=" + contentLength + ", actual=" + copied);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return getUrl(key);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public String getUrl(String key) {
+        if (baseUrl == null || baseUrl.isBlank()) {
+            return resolve(key).toUri().toString();
+        }
+        return baseUrl.endsWith("/") ? baseUrl + key : baseUrl + "/" + key;
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다.");
+        }
+        return path;
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparta.wildcard_newsfeed.domain.file.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 업로드 파일 저장소
+ * newsfeed.storage.type 으로 S3(s3) 또는 로컬 디스크(local) 구현을 선택한다.
+ */
+public interface ObjectStorage {
+
+    /**
+     * 입력 스트림을 그대로 저장
+     * @return 저장된 파일의 접근 주소
+     */
+    String upload(String key, InputStream inputStream, long contentLength, String contentType)
+            throws IOException, InterruptedException;
+
+    void delete(String key) throws IOException;
+
+    String getUrl(String key);
+}
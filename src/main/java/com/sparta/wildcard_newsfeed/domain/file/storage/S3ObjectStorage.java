@@ -0,0 +1,71 @@
+package com.sparta.wildcard_newsfeed.domain.file.storage;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+
+public class S3ObjectStorage implements ObjectStorage, DisposableBean {
+
+    private final AmazonS3 amazonS3;
+    private final String bucket;
+    private final long multipartThreshold;
+    private final TransferManager transferManager;
+
+    public S3ObjectStorage(AmazonS3 amazonS3, String bucket, DataSize multipartThreshold, DataSize multipartPartSize) {
+        this.amazonS3 = amazonS3;
+        this.bucket = bucket;
+        this.multipartThreshold = multipartThreshold.toBytes();
+        // 이 크기 이상이면 multipart upload 로 나눠 올린다
+        this.transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withMultipartUploadThreshold(multipartThreshold.toBytes())
+                .withMinimumUploadPartSize(multipartPartSize.toBytes())
+                .build();
+    }
+
+    /**
+     * 로컬에 저장하지 않고 입력 스트림을 그대로 S3 로 전송
+     * 크기를 미리 알려주므로 SDK 가 스트림 전체를 메모리에 올리지 않는다
+     */
+    @Override
+    public String upload(String key, InputStream inputStream, long contentLength, String contentType)
+            throws InterruptedException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        if (contentType != null) {
+            metadata.setContentType(contentType);
+        }
+        PutObjectRequest request = new PutObjectRequest(bucket, key, inputStream, metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead);
+
+        if (contentLength >= multipartThreshold) {
+            transferManager.upload(request).waitForCompletion();
+        } else {
+            amazonS3.putObject(request);
+        }
+        return getUrl(key);
+    }
+
+    @Override
+    public void delete(String key) {
+        amazonS3.deleteObject(bucket, key);
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    @Override
+    public void destroy() {
+        // S3 클라이언트는 빈으로 관리되므로 함께 종료하지 않는다
+        transferManager.shutdownNow(false);
+    }
+}
@@ -16,6 +16,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -59,4 +62,22 @@ public class LikedController {
                         .message("좋아요 제거 성공")
                         .build());
     }
-}
\ No newline at end of file
+
+    @GetMapping("/status")
+    @Operation(summary = "게시물 좋아요 여부 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "좋아요 여부 조회 성공")
+    })
+    public ResponseEntity<CommonResponseDto<Map<Long, Boolean>>> getLikeStatus(
+            @AuthenticationPrincipal AuthenticationUser user,
+            @RequestParam List<Long> ids
+    ) {
+        Map<Long, Boolean> status = likedService.getLikedStatus(user, ids);
+        return ResponseEntity.ok()
+                .body(CommonResponseDto.<Map<Long, Boolean>>builder()
+                        .statusCode(HttpStatus.OK.value())
+                        .message("좋아요 여부 조회 성공")
+                        .data(status)
+                        .build());
+    }
+}
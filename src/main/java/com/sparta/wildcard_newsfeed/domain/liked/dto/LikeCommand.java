@@ -0,0 +1,16 @@
+package com.sparta.wildcard_newsfeed.domain.liked.dto;
+
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 좋아요 추가/취소 요청 - 큐에 쌓였다가 일정 주기로 DB 에 반영된다
+@Getter
+@AllArgsConstructor
+public class LikeCommand {
+    private final Long userId;
+    private final String usercode;
+    private final Long contentsId;
+    private final ContentsTypeEnum contentsType;
+    private final boolean like; // true: 추가, false: 취소
+}
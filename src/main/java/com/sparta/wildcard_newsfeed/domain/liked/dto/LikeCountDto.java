@@ -0,0 +1,7 @@
+package com.sparta.wildcard_newsfeed.domain.liked.dto;
+
+// 컨텐츠별 좋아요 수 조회용 프로젝션
+public interface LikeCountDto {
+    Long getContentsId();
+    Long getLikeCount();
+}
@@ -25,4 +25,14 @@ public class LikedResponseDto {
         this.createdAt = liked.getCreatedAt();
         this.updatedAt = liked.getUpdatedAt();
     }
-}
\ No newline at end of file
+
+    // insert 문으로 바로 저장한 경우 - 엔티티 없이 응답
+    // 쓰기 지연 모드에서는 아직 저장되기 전이므로 likeId 가 null 이다
+    public LikedResponseDto(Long likeId, Long contentsId, ContentsTypeEnum contentsType, LocalDateTime createdAt) {
+        this.likeId = likeId;
+        this.contentsId = contentsId;
+        this.contentsType = contentsType;
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
+}
@@ -9,6 +9,8 @@ import lombok.NoArgsConstructor;
 @Getter
 @Entity
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_liked_contents", columnList = "contents_id, content_type"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_liked_user_contents", columnNames = {"user_id", "contents_id", "content_type"}))
 public class Liked extends TimeStampEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,11 +1,45 @@
 package com.sparta.wildcard_newsfeed.domain.liked.repository;
 
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikeCountDto;
 import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
 import com.sparta.wildcard_newsfeed.domain.liked.entity.Liked;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LikedRepository extends JpaRepository<Liked, Long> {
     Optional<Liked> findByUserIdAndContentsIdAndContentsType(Long user_id, Long contentsId, ContentsTypeEnum contentsType);
-}
\ No newline at end of file
+
+    @Query("select l.contentsId as contentsId, count(l) as likeCount from Liked l " +
+            "where l.contentsType = :contentsType and l.contentsId in :contentsIds " +
+            "group by l.contentsId")
+    List<LikeCountDto> countByContentsIds(@Param("contentsType") ContentsTypeEnum contentsType,
+                                          @Param("contentsIds") Collection<Long> contentsIds);
+
+    // 이미 좋아요가 있으면 (user_id, contents_id, content_type) 유니크 키에 걸려 무시되고 0 을 반환
+    @Modifying
+    @Query(value = "insert ignore into liked (user_id, contents_id, content_type, created_at, updated_at) " +
+            "values (:userId, :contentsId, :contentsType, now(6), now(6))", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId,
+                     @Param("contentsId") Long contentsId,
+                     @Param("contentsType") String contentsType);
+
+    // 같은 커넥션에서 방금 insert 한 행의 id (insertIgnore 가 1 을 반환한 직후에 사용)
+    @Query(value = "select last_insert_id()", nativeQuery = true)
+    Long findLastInsertId();
+
+    @Modifying
+    @Query("delete from Liked l where l.user.id = :userId and l.contentsId = :contentsId and l.contentsType = :contentsType")
+    int deleteByUserIdAndContents(@Param("userId") Long userId,
+                                  @Param("contentsId") Long contentsId,
+                                  @Param("contentsType") ContentsTypeEnum contentsType);
+
+    @Query("select l.contentsId from Liked l where l.user.usercode = :usercode and l.contentsType = :contentsType")
+    List<Long> findContentsIdsByUsercode(@Param("usercode") String usercode,
+                                         @Param("contentsType") ContentsTypeEnum contentsType);
+}
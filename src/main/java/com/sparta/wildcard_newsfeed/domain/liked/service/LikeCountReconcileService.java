@@ -0,0 +1,71 @@
+package com.sparta.wildcard_newsfeed.domain.liked.service;
+
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikeCountDto;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.liked.repository.LikedRepository;
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * post.like_count 정합성 검사
+ * 게시물을 id 순으로 일정 개수씩 읽어 liked 테이블의 실제 개수와 비교하고, 다르면 보정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeCountReconcileService {
+
+    private final PostRepository postRepository;
+    private final LikedRepository likedRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${newsfeed.like-count.reconcile-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${newsfeed.like-count.reconcile-interval:3600000}",
+            initialDelayString = "${newsfeed.like-count.reconcile-interval:3600000}")
+    public void reconcilePostLikeCounts() {
+        long lastId = 0L;
+        int fixedCount = 0;
+        while (true) {
+            List<LikeCountDto> storedCounts = postRepository.findLikeCountsAfter(lastId, PageRequest.of(0, batchSize));
+            if (storedCounts.isEmpty()) {
+                break;
+            }
+            // 배치 단위로 트랜잭션을 나눠 긴 락 점유를 피한다
+            Integer fixed = transactionTemplate.execute(status -> reconcileBatch(storedCounts));
+            fixedCount += fixed == null ? 0 : fixed;
+            lastId = storedCounts.get(storedCounts.size() - 1).getContentsId();
+        }
+        log.info("게시물 좋아요 수 정합성 검사 완료, 보정 {}건", fixedCount);
+    }
+
+    private int reconcileBatch(List<LikeCountDto> storedCounts) {
+        List<Long> postIds = storedCounts.stream().map(LikeCountDto::getContentsId).toList();
+        Map<Long, Long> actualCounts = likedRepository.countByContentsIds(ContentsTypeEnum.POST, postIds).stream()
+                .collect(Collectors.toMap(LikeCountDto::getContentsId, LikeCountDto::getLikeCount));
+
+        int fixed = 0;
+        for (LikeCountDto stored : storedCounts) {
+            long actual = actualCounts.getOrDefault(stored.getContentsId(), 0L);
+            if (stored.getLikeCount() == null || stored.getLikeCount() != actual) {
+                log.warn("게시물 좋아요 수 불일치 postId={}, 저장값={}, 실제값={}", stored.getContentsId(), stored.getLikeCount(), actual);
+                // 읽은 뒤 좋아요 수가 바뀌었으면 건너뛰고 다음 검사에서 다시 본다
+                if (postRepository.updateLikeCountIfUnchanged(stored.getContentsId(), stored.getLikeCount(), actual) == 1) {
+                    fixed++;
+                }
+            }
+        }
+        return fixed;
+    }
+}
@@ -0,0 +1,293 @@
+package com.sparta.wildcard_newsfeed.domain.liked.service;
+
+import com.sparta.wildcard_newsfeed.config.CacheConfig;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikeCommand;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.exception.customexception.LikeQueueFullException;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좋아요 쓰기 지연(write-behind) 처리
+ * 요청은 제한된 크기의 큐에 쌓고, 주기적으로 사용자+컨텐츠 단위로 합친 뒤
+ * liked 테이블은 JDBC batch 로, 좋아요 수는 컨텐츠당 한 번의 UPDATE 로 반영한다.
+ * 아직 반영되지 않은 요청은 pending 에 남겨 요청한 사용자가 바로 자신의 좋아요 상태를 볼 수 있게 한다.
+ * 반영에 실패하면 다음 주기에 정해진 횟수까지 다시 시도하고, 그래도 실패하면 한 건씩 반영해 실패한 요청만 버린다.
+ * 커밋된 뒤에 좋아요 수가 바뀐 게시물의 캐시를 비운다.
+ * batch 가 실제로 한 번에 전송되려면 MySQL 접속 URL 에 rewriteBatchedStatements=true 가 필요하며,
+ * 이때는 insert 결과 행 수를 알 수 없으므로(SUCCESS_NO_INFO) 해당 컨텐츠의 좋아요 수를 liked 테이블에서 다시 센다.
+ */
+@Slf4j
+@Service
+public class LikeWriteBehindService {
+
+    private static final String INSERT_LIKED =
+            "insert ignore into liked (user_id, contents_id, content_type, created_at, updated_at) values (?, ?, ?, ?, ?)";
+    private static final String DELETE_LIKED =
+            "delete from liked where user_id = ? and contents_id = ? and content_type = ?";
+    private static final String UPDATE_POST_LIKE_COUNT =
+            "update post set like_count = like_count + ? where id = ?";
+    private static final String UPDATE_COMMENT_LIKE_COUNT =
+            "update comment set like_count = coalesce(like_count, 0) + ? where id = ?";
+    private static final String RECOUNT_POST_LIKE_COUNT =
+            "update post set like_count = (select count(*) from liked where contents_id = ? and content_type = ?) where id = ?";
+    private static final String RECOUNT_COMMENT_LIKE_COUNT =
+            "update comment set like_count = (select count(*) from liked where contents_id = ? and content_type = ?) where id = ?";
+    private static final String SELECT_COMMENT_POST_IDS =
+            "select distinct post_id from comment where id in (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final LikedMembershipService likedMembershipService;
+    private final BlockingQueue<LikeCommand> queue;
+    private final Map<UserLikeKey, Boolean> pending = new ConcurrentHashMap<>();
+    private final int maxAttempts;
+
+    // 반영에 실패해 다음 주기에 먼저 다시 시도할 요청 (flush 안에서만 사용)
+    private List<LikeCommand> retryCommands = new ArrayList<>();
+    private int failedAttempts;
+
+    @Getter
+    private final boolean enabled;
+
+    public LikeWriteBehindService(JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  CacheManager cacheManager,
+                                  LikedMembershipService likedMembershipService,
+                                  @Value("${newsfeed.like.write-behind.enabled:false}") boolean enabled,
+                                  @Value("${newsfeed.like.write-behind.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${newsfeed.like.write-behind.max-attempts:5}") int maxAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheManager = cacheManager;
+        this.likedMembershipService = likedMembershipService;
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxAttempts = maxAttempts;
+    }
+
+    public void submit(LikeCommand command) {
+        UserLikeKey key = UserLikeKey.of(command);
+        pending.put(key, command.isLike());
+        if (!queue.offer(command)) {
+            pending.remove(key, command.isLike());
+            throw new LikeQueueFullException();
+        }
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 좋아요 상태
+     * @return 반영 대기 중인 요청이 없으면 null
+     */
+    public Boolean getPendingLiked(String usercode, Long contentsId, ContentsTypeEnum contentsType) {
+        return pending.get(new UserLikeKey(usercode, contentsId, contentsType));
+    }
+
+    public boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    @Scheduled(fixedDelayString = "${newsfeed.like.write-behind.flush-interval:200}")
+    public synchronized void flush() {
+        // 실패했던 요청이 먼저 들어온 요청이므로 앞에 둔다
+        List<LikeCommand> commands = new ArrayList<>(retryCommands);
+        queue.drainTo(commands);
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        // 같은 사용자의 같은 컨텐츠 요청은 처음/마지막 요청만 보면 된다 (추가-취소가 번갈아 들어오므로)
+        Map<UserLikeKey, LikeCommand[]> firstAndLast = new LinkedHashMap<>();
+        for (LikeCommand command : commands) {
+            firstAndLast.compute(UserLikeKey.of(command), (key, pair) ->
+                    pair == null ? new LikeCommand[]{command, command} : new LikeCommand[]{pair[0], command});
+        }
+
+        List<LikeCommand> inserts = new ArrayList<>();
+        List<LikeCommand> deletes = new ArrayList<>();
+        firstAndLast.values().forEach(pair -> {
+            if (pair[0].isLike() != pair[1].isLike()) {
+                return; // 추가 후 취소(또는 반대) - DB 상태 변화 없음
+            }
+            LikeCommand command = pair[1];
+            (command.isLike() ? inserts : deletes).add(command);
+        });
+
+        Set<Long> changedPostIds;
+        try {
+            changedPostIds = transactionTemplate.execute(status -> write(inserts, deletes));
+        } catch (Exception e) {
+            // 롤백되었으므로 같은 요청을 다시 반영해도 좋아요 수가 두 번 바뀌지 않는다
+            if (++failedAttempts < maxAttempts) {
+                log.warn("좋아요 일괄 반영 실패, 다음 주기에 재시도 요청 {}건, 시도 {}회", commands.size(), failedAttempts, e);
+                retryCommands = commands;
+                return;
+            }
+            log.error("좋아요 일괄 반영 실패, {}회 시도 후 한 건씩 반영 요청 {}건", failedAttempts, inserts.size() + deletes.size(), e);
+            changedPostIds = writeOneByOne(inserts, deletes);
+        }
+
+        // 좋아요 여부는 DB 에서 다시 불러오도록 한 뒤 반영 대기 상태를 지운다 (커밋 또는 폐기된 뒤에만)
+        retryCommands = new ArrayList<>();
+        failedAttempts = 0;
+        commands.stream()
+                .filter(command -> command.getContentsType() == ContentsTypeEnum.POST)
+                .map(LikeCommand::getUsercode)
+                .distinct()
+                .forEach(likedMembershipService::invalidate);
+        commands.forEach(command -> pending.remove(UserLikeKey.of(command), command.isLike()));
+        if (changedPostIds != null) {
+            changedPostIds.forEach(this::evictPostCache);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 일괄 반영이 계속 실패하면 한 건씩 반영해, 문제가 되는 요청만 버리고 나머지는 살린다
+    private Set<Long> writeOneByOne(List<LikeCommand> inserts, List<LikeCommand> deletes) {
+        Set<Long> changedPostIds = new LinkedHashSet<>();
+        inserts.forEach(command -> writeAlone(command, List.of(command), List.of(), changedPostIds));
+        deletes.forEach(command -> writeAlone(command, List.of(), List.of(command), changedPostIds));
+        return changedPostIds;
+    }
+
+    private void writeAlone(LikeCommand command, List<LikeCommand> inserts, List<LikeCommand> deletes, Set<Long> changedPostIds) {
+        try {
+            Set<Long> changed = transactionTemplate.execute(status -> write(inserts, deletes));
+            if (changed != null) {
+                changedPostIds.addAll(changed);
+            }
+        } catch (Exception e) {
+            log.error("좋아요 요청 폐기 userId={}, contentsId={}, type={}, like={}",
+                    command.getUserId(), command.getContentsId(), command.getContentsType(), command.isLike(), e);
+        }
+    }
+
+    /**
+     * @return 좋아요 수가 바뀐 게시물 id (댓글 좋아요는 댓글이 달린 게시물)
+     */
+    private Set<Long> write(List<LikeCommand> inserts, List<LikeCommand> deletes) {
+        Map<TargetKey, Long> deltas = new LinkedHashMap<>();
+        // 반영된 행 수를 알 수 없는 컨텐츠 - 증감 대신 다시 센다
+        Set<TargetKey> recounts = new LinkedHashSet<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (!inserts.isEmpty()) {
+            int[][] results = jdbcTemplate.batchUpdate(INSERT_LIKED, inserts, inserts.size(), (ps, command) -> {
+                ps.setLong(1, command.getUserId());
+                ps.setLong(2, command.getContentsId());
+                ps.setString(3, command.getContentsType().name());
+                ps.setTimestamp(4, now);
+                ps.setTimestamp(5, now);
+            });
+            // 중복으로 무시된 insert 는 좋아요 수에 반영하지 않는다
+            mergeDeltas(deltas, recounts, inserts, results[0], 1L);
+        }
+        if (!deletes.isEmpty()) {
+            int[][] results = jdbcTemplate.batchUpdate(DELETE_LIKED, deletes, deletes.size(), (ps, command) -> {
+                ps.setLong(1, command.getUserId());
+                ps.setLong(2, command.getContentsId());
+                ps.setString(3, command.getContentsType().name());
+            });
+            mergeDeltas(deltas, recounts, deletes, results[0], -1L);
+        }
+        Set<Long> changedPostIds = new LinkedHashSet<>();
+        List<Long> changedCommentIds = new ArrayList<>();
+        recounts.forEach(target -> {
+            String sql = target.getContentsType() == ContentsTypeEnum.POST ? RECOUNT_POST_LIKE_COUNT : RECOUNT_COMMENT_LIKE_COUNT;
+            jdbcTemplate.update(sql, target.getContentsId(), target.getContentsType().name(), target.getContentsId());
+            (target.getContentsType() == ContentsTypeEnum.POST ? changedPostIds : changedCommentIds).add(target.getContentsId());
+        });
+        deltas.forEach((target, delta) -> {
+            if (delta == 0 || recounts.contains(target)) {
+                return;
+            }
+            if (target.getContentsType() == ContentsTypeEnum.POST) {
+                jdbcTemplate.update(UPDATE_POST_LIKE_COUNT, delta, target.getContentsId());
+                changedPostIds.add(target.getContentsId());
+            } else {
+                jdbcTemplate.update(UPDATE_COMMENT_LIKE_COUNT, delta, target.getContentsId());
+                changedCommentIds.add(target.getContentsId());
+            }
+        });
+        if (!changedCommentIds.isEmpty()) {
+            String sql = String.format(SELECT_COMMENT_POST_IDS, String.join(", ", Collections.nCopies(changedCommentIds.size(), "?")));
+            changedPostIds.addAll(jdbcTemplate.queryForList(sql, Long.class, changedCommentIds.toArray()));
+        }
+        return changedPostIds;
+    }
+
+    private void evictPostCache(Long postId) {
+        for (String cacheName : List.of(CacheConfig.POST_DETAIL, CacheConfig.POST_COMMENTS)) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.evict(postId);
+            }
+        }
+    }
+
+    private void mergeDeltas(Map<TargetKey, Long> deltas, Set<TargetKey> recounts,
+                             List<LikeCommand> commands, int[] affectedRows, long sign) {
+        for (int i = 0; i < commands.size(); i++) {
+            TargetKey target = TargetKey.of(commands.get(i));
+            // 드라이버가 영향받은 행 수를 알려주지 않으면(SUCCESS_NO_INFO) 중복으로 무시됐는지 알 수 없으므로 다시 센다
+            if (affectedRows[i] == Statement.SUCCESS_NO_INFO) {
+                recounts.add(target);
+            } else if (affectedRows[i] > 0) {
+                deltas.merge(target, sign, Long::sum);
+            }
+        }
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class UserLikeKey {
+        private final String usercode;
+        private final Long contentsId;
+        private final ContentsTypeEnum contentsType;
+
+        static UserLikeKey of(LikeCommand command) {
+            return new UserLikeKey(command.getUsercode(), command.getContentsId(), command.getContentsType());
+        }
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class TargetKey {
+        private final Long contentsId;
+        private final ContentsTypeEnum contentsType;
+
+        static TargetKey of(LikeCommand command) {
+            return new TargetKey(command.getContentsId(), command.getContentsType());
+        }
+    }
+}
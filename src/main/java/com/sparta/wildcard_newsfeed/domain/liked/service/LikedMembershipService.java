@@ -0,0 +1,68 @@
+package com.sparta.wildcard_newsfeed.domain.liked.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.liked.repository.LikedRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 게시물 좋아요 여부
+ * 사용자당 한 번 liked 테이블에서 불러와 보관하고, 좋아요 추가/취소가 커밋되면 해당 사용자 항목을 지운다.
+ * 불러오는 중에 지우면 불러오기가 끝난 뒤 지워지므로 변경 전 상태가 남지 않으며,
+ * 그래도 어긋난 항목은 일정 시간이 지나면 다시 불러온다.
+ */
+@Slf4j
+@Service
+public class LikedMembershipService {
+
+    private final LikedRepository likedRepository;
+    private final Cache<String, LikedPostIds> likedPostIdsByUser;
+
+    public LikedMembershipService(LikedRepository likedRepository,
+                                  @Value("${newsfeed.like.membership.max-users:10000}") int maxUsers,
+                                  @Value("${newsfeed.like.membership.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.likedRepository = likedRepository;
+        this.likedPostIdsByUser = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    public Map<Long, Boolean> getLikedStatus(String usercode, List<Long> postIds) {
+        LikedPostIds likedPostIds = likedPostIdsByUser.get(usercode, key ->
+                LikedPostIds.of(likedRepository.findContentsIdsByUsercode(key, ContentsTypeEnum.POST)));
+        Map<Long, Boolean> status = new LinkedHashMap<>();
+        for (Long postId : postIds) {
+            status.put(postId, likedPostIds.contains(postId));
+        }
+        return status;
+    }
+
+    // 좋아요 추가/취소 후 다음 조회에서 DB 상태를 다시 불러오도록 한다 - 롤백되면 지우지 않는다
+    public void invalidate(String usercode) {
+        afterCommit(() -> likedPostIdsByUser.invalidate(usercode));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package com.sparta.wildcard_newsfeed.domain.liked.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 사용자가 좋아요를 누른 게시물 id 집합
+ * 정렬된 long 배열 하나로 보관해 박싱 없이 이진 탐색으로 조회한다. 변경되면 새로 불러온다.
+ */
+final class LikedPostIds {
+
+    private final long[] ids;
+
+    private LikedPostIds(long[] ids) {
+        this.ids = ids;
+    }
+
+    static LikedPostIds of(Collection<Long> postIds) {
+        long[] ids = postIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return new LikedPostIds(ids);
+    }
+
+    boolean contains(long postId) {
+        return Arrays.binarySearch(ids, postId) >= 0;
+    }
+
+    int size() {
+        return ids.length;
+    }
+}
@@ -1,13 +1,12 @@
 package com.sparta.wildcard_newsfeed.domain.liked.service;
 
-import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
+import com.sparta.wildcard_newsfeed.config.CacheConfig;
 import com.sparta.wildcard_newsfeed.domain.comment.repository.CommentRepository;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikeCommand;
 import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedRequestDto;
 import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedResponseDto;
 import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
-import com.sparta.wildcard_newsfeed.domain.liked.entity.Liked;
 import com.sparta.wildcard_newsfeed.domain.liked.repository.LikedRepository;
-import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
 import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
 import com.sparta.wildcard_newsfeed.domain.user.entity.User;
 import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
@@ -15,54 +14,73 @@ import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LikedService {
+    private static final int MAX_STATUS_IDS = 100;
+
     private final LikedRepository likedRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final LikeWriteBehindService likeWriteBehindService;
+    private final LikedMembershipService likedMembershipService;
+    private final CacheManager cacheManager;
 
     @Transactional
     public LikedResponseDto addLike(LikedRequestDto requestDto, AuthenticationUser user) {
         User currentUser = userRepository.findByUsercode(user.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        Optional<Liked> existingLike = likedRepository.findByUserIdAndContentsIdAndContentsType(currentUser.getId(), requestDto.getContentsId(), requestDto.getContentsType());
-
-        if (existingLike.isPresent()) {
-            throw new IllegalArgumentException("이미 좋아요를 눌렀습니다.");
-        }
-
         // 본인이 작성한 게시물이나 댓글에 좋아요를 남길 수 없습니다.
         // POST
         if (requestDto.getContentsType() == ContentsTypeEnum.POST) {
-            Post post = postRepository.findById(requestDto.getContentsId())
+            Long authorId = postRepository.findUserIdById(requestDto.getContentsId())
                     .orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
-            if (post.getUser().getId().equals(currentUser.getId())) {
+            if (authorId.equals(currentUser.getId())) {
                 throw new IllegalArgumentException("본인이 작성한 게시물에는 좋아요를 남길 수 없습니다.");
             }
-            post.setLikeCount(post.getLikeCount() + 1); //변경 감지 -> 따로 save 필요없다.
         }
         //COMMENT
         else if (requestDto.getContentsType() == ContentsTypeEnum.COMMENT) {
-            Comment comment = commentRepository.findById(requestDto.getContentsId())
+            Long authorId = commentRepository.findUserIdById(requestDto.getContentsId())
                     .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
-            if (comment.getUser().getId().equals(currentUser.getId())) {
+            if (authorId.equals(currentUser.getId())) {
                 throw new IllegalArgumentException("본인이 작성한 댓글에는 좋아요를 남길 수 없습니다.");
             }
-            comment.setLikeCount(comment.getLikeCount() + 1);
         }
 
-        Liked liked = new Liked(currentUser, requestDto.getContentsId(), requestDto.getContentsType());
-        likedRepository.save(liked);
+        // 쓰기 지연 모드에서는 큐에 넣고 바로 응답 (저장, 좋아요 수 반영, 캐시 무효화는 일괄 처리 후)
+        // 반영 전까지 좋아요 여부는 대기 중인 요청으로 덮어써 보여준다
+        if (likeWriteBehindService.isEnabled()) {
+            // 대기 중인 요청이 없으면 DB 에 이미 저장된 좋아요도 확인해야 추가-취소가 엇갈려 상쇄되지 않는다
+            if (isLiked(currentUser, requestDto.getContentsId(), requestDto.getContentsType())) {
+                throw new IllegalArgumentException("이미 좋아요를 눌렀습니다.");
+            }
+            likeWriteBehindService.submit(new LikeCommand(currentUser.getId(), currentUser.getUsercode(), requestDto.getContentsId(), requestDto.getContentsType(), true));
+            return new LikedResponseDto(null, requestDto.getContentsId(), requestDto.getContentsType(), LocalDateTime.now());
+        }
+
+        // 중복 조회 없이 바로 insert - 유니크 키에 걸려 무시되면 이미 좋아요를 누른 것
+        int inserted = likedRepository.insertIgnore(currentUser.getId(), requestDto.getContentsId(), requestDto.getContentsType().name());
+        if (inserted == 0) {
+            throw new IllegalArgumentException("이미 좋아요를 눌렀습니다.");
+        }
+        Long likeId = likedRepository.findLastInsertId();
+        increaseLikeCount(requestDto, 1L);
+        invalidateMembership(user.getUsername(), requestDto);
+        evictPostCache(requestDto);
 
-        return new LikedResponseDto(liked);
+        return new LikedResponseDto(likeId, requestDto.getContentsId(), requestDto.getContentsType(), LocalDateTime.now());
     }
 
     @Transactional
@@ -70,23 +88,86 @@ public class LikedService {
         User currentUser = userRepository.findByUsercode(user.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        Liked existingLike = likedRepository.findByUserIdAndContentsIdAndContentsType(currentUser.getId(), requestDto.getContentsId(), requestDto.getContentsType())
-                .orElseThrow(() -> new IllegalArgumentException("좋아요가 존재하지 않습니다."));
+        if (likeWriteBehindService.isEnabled()) {
+            if (!isLiked(currentUser, requestDto.getContentsId(), requestDto.getContentsType())) {
+                throw new IllegalArgumentException("좋아요가 존재하지 않습니다.");
+            }
+            likeWriteBehindService.submit(new LikeCommand(currentUser.getId(), currentUser.getUsercode(), requestDto.getContentsId(), requestDto.getContentsType(), false));
+            return;
+        }
+
+        int deleted = likedRepository.deleteByUserIdAndContents(currentUser.getId(), requestDto.getContentsId(), requestDto.getContentsType());
+        if (deleted == 0) {
+            throw new IllegalArgumentException("좋아요가 존재하지 않습니다.");
+        }
 
         // 좋아요 수 감소
+        increaseLikeCount(requestDto, -1L);
+        invalidateMembership(user.getUsername(), requestDto);
+        evictPostCache(requestDto);
+    }
+
+    // 게시물 목록의 좋아요 여부를 한 번에 조회
+    public Map<Long, Boolean> getLikedStatus(AuthenticationUser user, List<Long> postIds) {
+        if (postIds.size() > MAX_STATUS_IDS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_STATUS_IDS + "개까지 조회 가능합니다.");
+        }
+        Map<Long, Boolean> status = likedMembershipService.getLikedStatus(user.getUsername(), postIds);
+        // 쓰기 지연 모드에서 아직 반영되지 않은 요청이 있으면 그 상태로 덮어쓴다
+        if (likeWriteBehindService.isEnabled() && likeWriteBehindService.hasPending()) {
+            status.replaceAll((postId, liked) -> {
+                Boolean pendingLiked = likeWriteBehindService.getPendingLiked(user.getUsername(), postId, ContentsTypeEnum.POST);
+                return pendingLiked != null ? pendingLiked : liked;
+            });
+        }
+        return status;
+    }
+
+    // 반영 대기 중인 요청이 있으면 그 상태를, 없으면 DB 상태를 본다
+    private boolean isLiked(User user, Long contentsId, ContentsTypeEnum contentsType) {
+        Boolean pendingLiked = likeWriteBehindService.getPendingLiked(user.getUsercode(), contentsId, contentsType);
+        if (pendingLiked != null) {
+            return pendingLiked;
+        }
+        return likedRepository.findByUserIdAndContentsIdAndContentsType(user.getId(), contentsId, contentsType).isPresent();
+    }
+
+    private void invalidateMembership(String usercode, LikedRequestDto requestDto) {
+        if (requestDto.getContentsType() == ContentsTypeEnum.POST) {
+            likedMembershipService.invalidate(usercode);
+        }
+    }
+
+    // 좋아요 수가 바뀐 게시물의 단건 조회 캐시 무효화 (댓글 좋아요는 댓글이 달린 게시물)
+    private void evictPostCache(LikedRequestDto requestDto) {
+        if (requestDto.getContentsType() == ContentsTypeEnum.POST) {
+            evictPostCache(requestDto.getContentsId());
+        } else if (requestDto.getContentsType() == ContentsTypeEnum.COMMENT) {
+            commentRepository.findPostIdById(requestDto.getContentsId()).ifPresent(this::evictPostCache);
+        }
+    }
+
+    private void evictPostCache(Long postId) {
+        for (String cacheName : List.of(CacheConfig.POST_DETAIL, CacheConfig.POST_COMMENTS)) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.evict(postId);
+            }
+        }
+    }
+
+    private void increaseLikeCount(LikedRequestDto requestDto, long delta) {
         // POST
         if (requestDto.getContentsType() == ContentsTypeEnum.POST) {
-            Post post = postRepository.findById(requestDto.getContentsId())
-                    .orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
-            post.setLikeCount(post.getLikeCount() - 1);
+            if (postRepository.increaseLikeCount(requestDto.getContentsId(), delta) == 0) {
+                throw new IllegalArgumentException("게시물을 찾을 수 없습니다.");
+            }
         }
         // COMMENT
         else if (requestDto.getContentsType() == ContentsTypeEnum.COMMENT) {
-            Comment comment = commentRepository.findById(requestDto.getContentsId())
-                    .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
-            comment.setLikeCount(comment.getLikeCount() - 1);
+            if (commentRepository.increaseLikeCount(requestDto.getContentsId(), delta) == 0) {
+                throw new IllegalArgumentException("댓글을 찾을 수 없습니다.");
+            }
         }
-
-        likedRepository.delete(existingLike);
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,14 @@
 package com.sparta.wildcard_newsfeed.domain.post.controller;
 
-import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto;
 import com.sparta.wildcard_newsfeed.domain.comment.dto.PostWithCommentsResponseDto;
-import com.sparta.wildcard_newsfeed.domain.comment.service.CommentService;
 import com.sparta.wildcard_newsfeed.domain.common.CommonResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCursorRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCursorResponseDto;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageRequestDto;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageResponseDto;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto;
-import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostSliceResponseDto;
 import com.sparta.wildcard_newsfeed.domain.post.service.PostService;
 import com.sparta.wildcard_newsfeed.exception.validation.ValidationSequence;
 import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
@@ -23,10 +23,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -38,7 +41,6 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
-    private final CommentService commentService;
 
     // 게시물 등록
     @PostMapping
@@ -69,10 +71,21 @@ public class PostController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = CommonResponseDto.class)))
     })
-    public ResponseEntity<CommonResponseDto<Object>> findAll() {
-        List<PostResponseDto> posts = postService.findAll();
+    public ResponseEntity<CommonResponseDto<Object>> findAll(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest
+    ) {
+        // 변경이 없으면 목록을 조회하지 않고 304 응답
+        String etag = postService.getPostListEtag(page, size);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        List<PostResponseDto> posts = postService.findAll(page, size);
 
         return ResponseEntity.ok()
+                .eTag(etag)
                 .body(CommonResponseDto.builder()
                         .statusCode(HttpStatus.OK.value())
                         .message("게시물 전체 조회 성공")
@@ -80,6 +93,27 @@ public class PostController {
                         .build());
     }
 
+    // 게시물 전체 내보내기 (NDJSON, 한 줄에 게시물 하나)
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "게시물 전체 내보내기")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "게시물 전체 내보내기 성공"),
+            @ApiResponse(responseCode = "503", description = "동시에 실행 중인 내보내기가 많음")
+    })
+    public ResponseEntity<StreamingResponseBody> exportPosts() {
+        postService.acquireExport();
+        StreamingResponseBody body = outputStream -> {
+            try {
+                postService.exportPosts(outputStream);
+            } finally {
+                postService.releaseExport();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     //    // 게시물 단일 조회 + 해당 게시물에 달린 댓글 전체 조회
     @GetMapping("/{postId}")
     @Operation(summary = "게시물 단일 조회")
@@ -88,17 +122,21 @@ public class PostController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = CommonResponseDto.class)))
     })
-    public ResponseEntity<CommonResponseDto<PostWithCommentsResponseDto>> findById(@PathVariable(name = "postId") long id) {
-        // 게시물 단일 조회
-        PostResponseDto post = postService.findById(id);
-
-        // 해당 게시물에 달린 댓글 전체 조회
-        List<CommentResponseDto> comments = commentService.findAllCommentsByPostId(id);
+    public ResponseEntity<CommonResponseDto<PostWithCommentsResponseDto>> findById(
+            @PathVariable(name = "postId") long id,
+            WebRequest webRequest
+    ) {
+        // 게시물 단일 조회 + 해당 게시물에 달린 댓글 전체 조회 (캐시)
+        PostWithCommentsResponseDto postWithCommentsResponse = postService.findPostWithComments(id);
 
-        // Post와 Comments를 하나의 객체로 병합
-        PostWithCommentsResponseDto postWithCommentsResponse = new PostWithCommentsResponseDto(post, comments);
+        // 캐시된 본문과 함께 보관된 ETag 로 비교 - 변경이 없으면 본문 없이 304 응답
+        String etag = postWithCommentsResponse.getEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
         return ResponseEntity.ok()
+                .eTag(etag)
                 .body(CommonResponseDto.<PostWithCommentsResponseDto>builder()
                         .statusCode(HttpStatus.OK.value())
                         .message("게시물 단일 조회, 댓글 조회 성공")
@@ -165,4 +203,40 @@ public class PostController {
                         .data(page)
                         .build());
     }
+
+    //페이지네이션 - 전체 개수 COUNT 없이 조회
+    @PostMapping("/page/slice")
+    @Operation(summary = "슬라이스 페이징")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "슬라이스 페이징 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CommonResponseDto.class)))
+    })
+    public ResponseEntity<CommonResponseDto<PostSliceResponseDto>> getPostSlice(@Valid @RequestBody PostPageRequestDto requestDto) {
+        PostSliceResponseDto slice = postService.getPostSlice(requestDto);
+        return ResponseEntity.ok()
+                .body(CommonResponseDto.<PostSliceResponseDto>builder()
+                        .statusCode(HttpStatus.OK.value())
+                        .message("게시물 페이지 조회 성공")
+                        .data(slice)
+                        .build());
+    }
+
+    //커서 기반 페이지네이션
+    @PostMapping("/page/cursor")
+    @Operation(summary = "커서 기반 페이징")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "커서 기반 페이징 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CommonResponseDto.class)))
+    })
+    public ResponseEntity<CommonResponseDto<PostCursorResponseDto>> getPostCursorPage(@Valid @RequestBody PostCursorRequestDto requestDto) {
+        PostCursorResponseDto page = postService.getPostCursorPage(requestDto);
+        return ResponseEntity.ok()
+                .body(CommonResponseDto.<PostCursorResponseDto>builder()
+                        .statusCode(HttpStatus.OK.value())
+                        .message("게시물 페이지 조회 성공")
+                        .data(page)
+                        .build());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.sparta.wildcard_newsfeed.domain.post.dto;
+
+// 업로드 대기 미디어 조회용
+public interface PendingMediaDto {
+    Long getId();
+    Long getPostId();
+    String getStorageKey();
+    int getAttempts();
+}
@@ -0,0 +1,63 @@
+package com.sparta.wildcard_newsfeed.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션 커서
+ * CREATE 정렬은 (createdAt, id), LIKED 정렬은 (likeCount, id) 를 담아 Base64 문자열로 주고받는다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final String sortBy;
+    private final LocalDateTime createdAt;
+    private final Long likeCount;
+    private final Long id;
+
+    public static PostCursor ofCreate(LocalDateTime createdAt, Long id) {
+        return new PostCursor("CREATE", createdAt, null, id);
+    }
+
+    public static PostCursor ofLiked(Long likeCount, Long id) {
+        return new PostCursor("LIKED", null, likeCount, id);
+    }
+
+    public static PostCursor from(String sortBy, PostPageResponseDto post) {
+        if (sortBy.equals("LIKED")) {
+            return ofLiked(post.getLikeCount(), post.getPostId());
+        }
+        return ofCreate(post.getCreatedAt(), post.getPostId());
+    }
+
+    public String encode() {
+        String key = sortBy.equals("LIKED") ? String.valueOf(likeCount) : createdAt.toString();
+        String raw = sortBy + DELIMITER + key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor, String sortBy) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 3 || !parts[0].equals(sortBy)) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            Long id = Long.parseLong(parts[2]);
+            if (sortBy.equals("LIKED")) {
+                return ofLiked(Long.parseLong(parts[1]), id);
+            }
+            return ofCreate(LocalDateTime.parse(parts[1]), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.sparta.wildcard_newsfeed.domain.post.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class PostCursorRequestDto {
+    @Schema(description = "이전 응답의 nextCursor, 첫 페이지는 비워둔다", example = "")
+    private String cursor;
+
+    @Schema(description = "게시글 수", example = "10")
+    @NotNull(message = "게시글 수 필수 입력 값입니다.")
+    @Positive(message = "0이 아닌 양수만 가능합니다.")
+    @Max(value = 100, message = "한 번에 최대 100개까지 조회 가능합니다.")
+    private int size;
+
+    @Schema(description = "정렬 기준", example = "CREATE")
+    @NotNull(message = "정렬 기준 필수 입력 값입니다.")
+    private String sortBy; // 생성일자 최신순 or 좋아요 많은 순
+
+    @Schema(description = "검색 기간 시작일", example = "2024-05-01")
+    private String firstDate;
+
+    @Schema(description = "검색 기간 마지막일", example = "2024-05-27")
+    private String lastDate;
+}
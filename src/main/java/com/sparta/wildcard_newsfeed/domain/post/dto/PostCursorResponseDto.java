@@ -0,0 +1,16 @@
+package com.sparta.wildcard_newsfeed.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PostCursorResponseDto {
+    private List<PostPageResponseDto> posts;
+    private String nextCursor; // 다음 페이지가 없으면 null
+    private boolean hasNext;
+}
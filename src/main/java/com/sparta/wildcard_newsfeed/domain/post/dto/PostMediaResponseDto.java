@@ -0,0 +1,19 @@
+package com.sparta.wildcard_newsfeed.domain.post.dto;
+
+import com.sparta.wildcard_newsfeed.domain.post.entity.MediaStatusEnum;
+import com.sparta.wildcard_newsfeed.domain.post.entity.PostMedia;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PostMediaResponseDto {
+    private Long id;
+    private String url; // 업로드가 끝나기 전에는 null
+    private String type;
+    private MediaStatusEnum status;
+
+    public static PostMediaResponseDto of(PostMedia postMedia) {
+        return new PostMediaResponseDto(postMedia.getId(), postMedia.getUrl(), postMedia.getType(), postMedia.getStatus());
+    }
+}
@@ -3,12 +3,16 @@ package com.sparta.wildcard_newsfeed.domain.post.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 @Getter
+@Builder
 @NoArgsConstructor
+@AllArgsConstructor
 @ToString
 public class PostPageRequestDto {
     @Schema(description = "선택 페이지", example = "1")
@@ -30,6 +34,9 @@ public class PostPageRequestDto {
     @Schema(description = "검색 기간 마지막일", example = "2024-05-27")
     private String lastDate; // 생성일자 최신순 or 좋아요 많은 순
 
+    @Schema(description = "전체 게시물 수 포함 여부 (슬라이스 조회에서 기간 검색이 없을 때만 적용)", example = "false")
+    private boolean withTotal;
+
     /*
     - **페이지네이션**
         - 10개씩 페이지네이션하여, 각 페이지 당 뉴스피드 데이터가 10개씩 나오게 합니다.
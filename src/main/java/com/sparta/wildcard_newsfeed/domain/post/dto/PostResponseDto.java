@@ -5,6 +5,7 @@ import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.Setter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,7 +18,10 @@ public class PostResponseDto {
     private String title;
     private String content;
     private String username;
-    private List<String> s3Urls;
+    @Setter
+    private List<String> s3Urls; // 업로드가 끝난 첨부파일 주소
+    @Setter
+    private List<PostMediaResponseDto> medias; // 첨부파일별 업로드 상태
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt;
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
@@ -36,6 +40,18 @@ public class PostResponseDto {
                 .build();
     }
 
+    // JPQL 프로젝션용
+    public PostResponseDto(Long id, String title, String content, String username,
+                           LocalDateTime createdAt, LocalDateTime updatedAt, Long likeCount) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.username = username;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.likeCount = likeCount;
+    }
+
     public PostResponseDto(Post post) {
         this.id = post.getId();
         this.title = post.getTitle();
@@ -0,0 +1,24 @@
+package com.sparta.wildcard_newsfeed.domain.post.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PostSliceResponseDto {
+    private List<PostPageResponseDto> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    // withTotal 요청 시에만 채워진다
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPages;
+}
@@ -0,0 +1,11 @@
+package com.sparta.wildcard_newsfeed.domain.post.dto;
+
+import java.time.LocalDateTime;
+
+// ETag 계산용 - 게시물 내용 대신 변경 시점과 카운터, 게시물 밖에서 바뀌는 작성자 이름만 조회
+public interface PostVersionDto {
+    Long getPostId();
+    LocalDateTime getUpdatedAt();
+    Long getLikeCount();
+    String getUsername();
+}
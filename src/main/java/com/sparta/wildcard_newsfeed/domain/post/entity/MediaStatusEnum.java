@@ -0,0 +1,7 @@
+package com.sparta.wildcard_newsfeed.domain.post.entity;
+
+public enum MediaStatusEnum {
+    PENDING,    // 업로드 대기
+    READY,      // 업로드 완료
+    FAILED      // 재시도 횟수 초과
+}
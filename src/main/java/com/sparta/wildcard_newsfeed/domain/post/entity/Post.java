@@ -14,6 +14,10 @@ import java.util.List;
 @Setter
 @Entity
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_post_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_post_like_count_id", columnList = "like_count, id")
+})
 public class Post extends TimeStampEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
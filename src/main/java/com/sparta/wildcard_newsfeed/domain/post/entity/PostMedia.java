@@ -6,9 +6,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_post_media_status_staged_by_next_attempt_at", columnList = "status, staged_by, next_attempt_at")
+})
 @NoArgsConstructor
 public class PostMedia extends TimeStampEntity {
     @Id
@@ -22,4 +27,27 @@ public class PostMedia extends TimeStampEntity {
     private String url;
 
     private String type;
-}
\ No newline at end of file
+
+    @Enumerated(EnumType.STRING)
+    private MediaStatusEnum status = MediaStatusEnum.READY;
+
+    // 비동기 업로드용 - 대기 파일 이름, 대기 파일이 있는 서버, 시도 횟수, 다음 시도 시각
+    private String storageKey;
+
+    private String stagedBy;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    // 업로드 대기 상태의 미디어
+    public static PostMedia pending(String storageKey, String type, String stagedBy) {
+        PostMedia postMedia = new PostMedia();
+        postMedia.setStorageKey(storageKey);
+        postMedia.setStagedBy(stagedBy);
+        postMedia.setType(type);
+        postMedia.setStatus(MediaStatusEnum.PENDING);
+        postMedia.setNextAttemptAt(LocalDateTime.now());
+        return postMedia;
+    }
+}
@@ -1,10 +1,56 @@
 package com.sparta.wildcard_newsfeed.domain.post.repository;
 
+import com.sparta.wildcard_newsfeed.domain.post.dto.PendingMediaDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostMediaResponseDto;
 import com.sparta.wildcard_newsfeed.domain.post.entity.PostMedia;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PostMediaRepository extends JpaRepository<PostMedia, Long> {
-    List<PostMedia> findByPostId(Long postId);
-}
\ No newline at end of file
+    @Query("select new com.sparta.wildcard_newsfeed.domain.post.dto.PostMediaResponseDto(m.id, m.url, m.type, m.status) " +
+            "from PostMedia m where m.post.id = :postId order by m.id")
+    List<PostMediaResponseDto> findMediaResponsesByPostId(@Param("postId") Long postId);
+
+    // 업로드할 차례가 된 대기 미디어 - 대기 파일은 받은 서버의 디스크에 있으므로 그 서버의 것만
+    @Query("select m.id as id, m.post.id as postId, m.storageKey as storageKey, m.attempts as attempts " +
+            "from PostMedia m " +
+            "where m.status = com.sparta.wildcard_newsfeed.domain.post.entity.MediaStatusEnum.PENDING " +
+            "and m.stagedBy = :stagedBy " +
+            "and m.nextAttemptAt <= :now " +
+            "order by m.nextAttemptAt")
+    List<PendingMediaDto> findPendingMedia(@Param("stagedBy") String stagedBy, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 시도 횟수가 그대로일 때만 선점 - 다른 작업자가 먼저 가져간 미디어는 0 을 반환
+    @Modifying
+    @Query("update PostMedia m set m.attempts = m.attempts + 1, m.nextAttemptAt = :leaseUntil " +
+            "where m.id = :id " +
+            "and m.status = com.sparta.wildcard_newsfeed.domain.post.entity.MediaStatusEnum.PENDING " +
+            "and m.attempts = :attempts")
+    int claim(@Param("id") Long id, @Param("attempts") int attempts, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 업로드 결과 반영 - 벌크 update 에는 auditing 이 적용되지 않으므로 updatedAt 도 직접 갱신한다
+    @Modifying
+    @Query("update PostMedia m set m.status = com.sparta.wildcard_newsfeed.domain.post.entity.MediaStatusEnum.READY, " +
+            "m.url = :url, m.updatedAt = :now " +
+            "where m.id = :id " +
+            "and m.status = com.sparta.wildcard_newsfeed.domain.post.entity.MediaStatusEnum.PENDING")
+    int markReady(@Param("id") Long id, @Param("url") String url, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update PostMedia m set m.nextAttemptAt = :nextAttemptAt, m.updatedAt = :now " +
+            "where m.id = :id " +
+            "and m.status = com.sparta.wildcard_newsfeed.domain.post.entity.MediaStatusEnum.PENDING")
+    int retryLater(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update PostMedia m set m.status = com.sparta.wildcard_newsfeed.domain.post.entity.MediaStatusEnum.FAILED, m.updatedAt = :now " +
+            "where m.id = :id " +
+            "and m.status = com.sparta.wildcard_newsfeed.domain.post.entity.MediaStatusEnum.PENDING")
+    int markFailed(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
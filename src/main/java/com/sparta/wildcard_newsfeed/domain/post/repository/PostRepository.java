@@ -1,27 +1,125 @@
 package com.sparta.wildcard_newsfeed.domain.post.repository;
 
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikeCountDto;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostVersionDto;
 import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    @Query(value = "select p.id as postId, u.id as userId, p.title, p.content, u.name, " +
-            "p.created_at as createdAt, p.updated_at as updatedAt, " +
-            "IF(c.count is null, 0, c.count) as likeCount " +
-            "from (select id, count(*) as count " +
-            "from (select a.id, a.title from post a " +
-            "left join liked b on a.id = b.contents_id " +
-            "where b.content_type = 'POST') a " +
-            "group by a.id) c " +
-            "right join post p on c.id = p.id " +
+    // 좋아요 수는 liked 테이블을 집계하지 않고 post.like_count 에 저장된 값을 사용
+    String FEED_QUERY = "select p.id as postId, u.id as userId, p.title, p.content, u.name, " +
+            "p.created_at as createdAt, p.updated_at as updatedAt, p.like_count as likeCount " +
+            "from post p " +
             "left join user u on u.id = p.user_id " +
-            "where p.created_at between :startDate AND :endDate ", nativeQuery = true)
+            "where p.created_at between :startDate AND :endDate ";
+
+    @Query(value = FEED_QUERY, nativeQuery = true)
     Page<PostPageResponseDto> findPostPages(@Param("startDate") String startDate,
                                             @Param("endDate") String endDate,
                                             Pageable pageable);
-}
\ No newline at end of file
+
+    // COUNT 쿼리 없이 다음 페이지 존재 여부만 확인
+    @Query(value = FEED_QUERY, nativeQuery = true)
+    Slice<PostPageResponseDto> findPostSlices(@Param("startDate") String startDate,
+                                              @Param("endDate") String endDate,
+                                              Pageable pageable);
+
+    // 커서 기반 페이지네이션 - 생성일자 최신순, (created_at, id) 이후의 행만 읽는다
+    @Query(value = "select p.id as postId, u.id as userId, p.title, p.content, u.name, " +
+            "p.created_at as createdAt, p.updated_at as updatedAt, p.like_count as likeCount " +
+            "from post p " +
+            "left join user u on u.id = p.user_id " +
+            "where p.created_at between :startDate AND :endDate " +
+            "and (p.created_at < :cursorCreatedAt " +
+            "or (p.created_at = :cursorCreatedAt and p.id < :cursorId)) " +
+            "order by p.created_at desc, p.id desc " +
+            "limit :size", nativeQuery = true)
+    List<PostPageResponseDto> findPostsByCreatedAtCursor(@Param("startDate") String startDate,
+                                                         @Param("endDate") String endDate,
+                                                         @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                         @Param("cursorId") Long cursorId,
+                                                         @Param("size") int size);
+
+    // 커서 기반 페이지네이션 - 좋아요 많은 순, (like_count, id) 이후의 행만 읽는다
+    @Query(value = "select p.id as postId, u.id as userId, p.title, p.content, u.name, " +
+            "p.created_at as createdAt, p.updated_at as updatedAt, p.like_count as likeCount " +
+            "from post p " +
+            "left join user u on u.id = p.user_id " +
+            "where p.created_at between :startDate AND :endDate " +
+            "and (p.like_count < :cursorLikeCount " +
+            "or (p.like_count = :cursorLikeCount and p.id < :cursorId)) " +
+            "order by p.like_count desc, p.id desc " +
+            "limit :size", nativeQuery = true)
+    List<PostPageResponseDto> findPostsByLikeCountCursor(@Param("startDate") String startDate,
+                                                         @Param("endDate") String endDate,
+                                                         @Param("cursorLikeCount") Long cursorLikeCount,
+                                                         @Param("cursorId") Long cursorId,
+                                                         @Param("size") int size);
+
+    // 게시물 전체 조회 - 작성자를 함께 조인해 필요한 컬럼만 DTO 로 조회 (작성자별 추가 쿼리 없음)
+    @Query("select new com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto(" +
+            "p.id, p.title, p.content, u.name, p.createdAt, p.updatedAt, p.likeCount) " +
+            "from Post p join p.user u " +
+            "order by p.createdAt desc, p.id desc")
+    List<PostResponseDto> findPostResponses(Pageable pageable);
+
+    // 게시물 단건 조회 - 작성자 이름까지 한 번에 조회
+    @Query("select new com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto(" +
+            "p.id, p.title, p.content, u.name, p.createdAt, p.updatedAt, p.likeCount) " +
+            "from Post p join p.user u " +
+            "where p.id = :id")
+    Optional<PostResponseDto> findPostResponseById(@Param("id") Long id);
+
+    // 게시물 전체 조회 ETag 계산용 - findPostResponses 와 같은 순서/범위
+    // 작성자 이름은 바뀌어도 게시물의 updatedAt 이 그대로이므로 함께 조회한다
+    @Query("select p.id as postId, p.updatedAt as updatedAt, p.likeCount as likeCount, u.name as username " +
+            "from Post p join p.user u " +
+            "order by p.createdAt desc, p.id desc")
+    List<PostVersionDto> findPostVersions(Pageable pageable);
+
+    // 게시물 내보내기 - 전체를 메모리에 올리지 않고 한 행씩 읽는다 (MySQL 은 fetch size 가 Integer.MIN_VALUE 일 때 스트리밍)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select new com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto(" +
+            "p.id, p.title, p.content, u.name, p.createdAt, p.updatedAt, p.likeCount) " +
+            "from Post p join p.user u " +
+            "order by p.id")
+    Stream<PostResponseDto> streamPostResponses();
+
+    // 좋아요 수 정합성 검사용 - id 순으로 일정 개수씩 끊어서 조회
+    @Query("select p.id as contentsId, p.likeCount as likeCount from Post p where p.id > :lastId order by p.id")
+    List<LikeCountDto> findLikeCountsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 읽어 둔 값에서 바뀌지 않았을 때만 보정 - 그 사이 반영된 좋아요/취소를 덮어쓰지 않는다
+    @Modifying
+    @Query("update Post p set p.likeCount = :likeCount " +
+            "where p.id = :id " +
+            "and (p.likeCount = :storedLikeCount or (:storedLikeCount is null and p.likeCount is null))")
+    int updateLikeCountIfUnchanged(@Param("id") Long id,
+                                   @Param("storedLikeCount") Long storedLikeCount,
+                                   @Param("likeCount") Long likeCount);
+
+    // 좋아요 수 증감은 DB 에서 원자적으로 처리 (읽고-수정-쓰기 과정에서 갱신 손실 방지)
+    @Modifying
+    @Query("update Post p set p.likeCount = p.likeCount + :delta where p.id = :id")
+    int increaseLikeCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Query("select p.user.id from Post p where p.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+}
@@ -0,0 +1,103 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 전체 게시물 수 캐시
+ * 최초 조회 시 한 번만 COUNT 하고, 이후에는 게시물 등록/삭제 시점에 증감만 반영한다.
+ * COUNT 하는 동안 커밋된 증감은 따로 모아 두었다가 COUNT 결과에 더하고,
+ * 그래도 생길 수 있는 오차(COUNT 와 겹친 커밋의 중복 반영 등)는 주기적으로 다시 COUNT 해서 바로잡는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCountService {
+
+    private static final long NOT_LOADED = -1L;
+
+    private final PostRepository postRepository;
+
+    private volatile long totalCount = NOT_LOADED;
+    // 로드되지 않은 동안 커밋된 증감의 누적값 (this 로 보호)
+    private long unloadedDelta;
+    // reset 될 때마다 증가 - reset 이전에 시작한 COUNT 결과는 버린다 (this 로 보호)
+    private long generation;
+
+    public long getTotalCount() {
+        long count = totalCount;
+        if (count != NOT_LOADED) {
+            return count;
+        }
+
+        long loadGeneration;
+        long deltaBeforeLoad;
+        synchronized (this) {
+            if (totalCount != NOT_LOADED) {
+                return totalCount;
+            }
+            loadGeneration = generation;
+            deltaBeforeLoad = unloadedDelta;
+        }
+
+        long loaded = postRepository.count();
+
+        synchronized (this) {
+            if (totalCount == NOT_LOADED && generation == loadGeneration) {
+                // COUNT 를 시작하기 전의 증감은 이미 COUNT 에 포함되어 있다
+                totalCount = Math.max(0L, loaded + unloadedDelta - deltaBeforeLoad);
+            }
+            return totalCount != NOT_LOADED ? totalCount : loaded;
+        }
+    }
+
+    public void increase() {
+        applyAfterCommit(1L);
+    }
+
+    public void decrease() {
+        applyAfterCommit(-1L);
+    }
+
+    // 다음 조회 시 DB 에서 다시 읽는다
+    public synchronized void reset() {
+        totalCount = NOT_LOADED;
+        unloadedDelta = 0L;
+        generation++;
+    }
+
+    // 증감만 반영하다 보면 어긋날 수 있으므로 주기적으로 다시 COUNT
+    @Scheduled(fixedDelayString = "${newsfeed.post.count.refresh-interval:600000}",
+            initialDelayString = "${newsfeed.post.count.refresh-interval:600000}")
+    public void refresh() {
+        reset();
+        getTotalCount();
+    }
+
+    // 롤백된 등록/삭제가 캐시에 반영되지 않도록 커밋 이후에 증감
+    private void applyAfterCommit(long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(delta);
+            }
+        });
+    }
+
+    private synchronized void apply(long delta) {
+        if (totalCount == NOT_LOADED) {
+            unloadedDelta += delta;
+            return;
+        }
+        totalCount = Math.max(0L, totalCount + delta);
+    }
+}
@@ -0,0 +1,251 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.config.CacheConfig;
+import com.sparta.wildcard_newsfeed.domain.file.service.FileService;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PendingMediaDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.MediaStatusEnum;
+import com.sparta.wildcard_newsfeed.domain.post.entity.PostMedia;
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostMediaRepository;
+import com.sparta.wildcard_newsfeed.exception.customexception.FileException;
+import com.sparta.wildcard_newsfeed.util.FileUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 첨부파일 비동기 업로드 (outbox)
+ * 요청에서는 파일을 대기 폴더로 옮기고 PENDING 상태의 PostMedia 만 저장한다.
+ * 작업자가 주기적으로 대기 미디어를 선점해 저장소에 올리고 READY 로 바꾸며,
+ * 실패하면 간격을 늘려 재시도하다가 최대 횟수를 넘기면 FAILED 로 남긴다.
+ * 저장소 key 는 파일 내용으로 정해지므로 같은 미디어를 다시 올려도 결과가 같다.
+ * 대기 파일은 요청을 받은 서버의 디스크에 있으므로 미디어에 서버 이름(node-id)을 남기고 자기 서버의 미디어만 선점한다.
+ * 대기 폴더를 여러 서버가 공유하는 저장소에 두면 모든 서버에 같은 node-id 를 지정한다.
+ */
+@Slf4j
+@Service
+public class PostMediaOutboxService {
+
+    private static final int WORKER_QUEUE_CAPACITY = 100;
+
+    private final PostMediaRepository postMediaRepository;
+    private final FileService fileService;
+    private final FileUtils fileUtils;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final ThreadPoolExecutor workers;
+
+    @Getter
+    private final boolean enabled;
+    private final Path stagingDir;
+    @Getter
+    private final String nodeId;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration lease;
+    private final int batchSize;
+
+    public PostMediaOutboxService(PostMediaRepository postMediaRepository,
+                                  FileService fileService,
+                                  FileUtils fileUtils,
+                                  TransactionTemplate transactionTemplate,
+                                  CacheManager cacheManager,
+                                  @Value("${newsfeed.media.async.enabled:false}") boolean enabled,
+                                  @Value("${newsfeed.media.async.staging-dir:./staging}") String stagingDir,
+                                  @Value("${newsfeed.media.async.node-id:}") String nodeId,
+                                  @Value("${newsfeed.media.async.workers:4}") int workerCount,
+                                  @Value("${newsfeed.media.async.max-attempts:5}") int maxAttempts,
+                                  @Value("${newsfeed.media.async.retry-backoff:2s}") Duration retryBackoff,
+                                  @Value("${newsfeed.media.async.lease:5m}") Duration lease,
+                                  @Value("${newsfeed.media.async.batch-size:20}") int batchSize) {
+        this.postMediaRepository = postMediaRepository;
+        this.fileService = fileService;
+        this.fileUtils = fileUtils;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheManager = cacheManager;
+        this.enabled = enabled;
+        this.stagingDir = Paths.get(stagingDir).toAbsolutePath().normalize();
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : resolveHostName();
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.lease = lease;
+        this.batchSize = batchSize;
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(WORKER_QUEUE_CAPACITY),
+                new CustomizableThreadFactory("media-upload-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        workers.shutdown();
+    }
+
+    /**
+     * 업로드 파일을 대기 폴더로 옮긴다 (같은 디스크면 이름만 바뀌므로 파일 크기와 관계없이 빠르다)
+     * @return 파일 순서대로 대기 파일 이름
+     */
+    public List<String> stage(List<MultipartFile> files) {
+        List<String> storageKeys = new ArrayList<>();
+        try {
+            Files.createDirectories(stagingDir);
+            for (MultipartFile file : files) {
+                String storageKey = fileUtils.createUuidFileName(file.getOriginalFilename());
+                file.transferTo(stagingDir.resolve(storageKey));
+                storageKeys.add(storageKey);
+            }
+        } catch (IOException e) {
+            storageKeys.forEach(this::deleteStaged);
+            throw new FileException("업로드 파일을 저장할 수 없습니다.", e);
+        }
+        return storageKeys;
+    }
+
+    /**
+     * 게시물 수정/삭제로 없어지거나 게시물 저장이 실패한 업로드 대기 미디어의 대기 파일을 지운다
+     * 트랜잭션 안이면 커밋된 뒤에 지운다 (롤백되면 미디어가 그대로 남으므로 지우지 않는다)
+     */
+    public void discardPending(List<PostMedia> postMediaList) {
+        if (postMediaList == null) {
+            return;
+        }
+        List<String> storageKeys = postMediaList.stream()
+                .filter(postMedia -> postMedia.getStatus() == MediaStatusEnum.PENDING && postMedia.getStorageKey() != null)
+                .map(PostMedia::getStorageKey)
+                .toList();
+        if (storageKeys.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> storageKeys.forEach(this::deleteStaged));
+    }
+
+    @Scheduled(fixedDelayString = "${newsfeed.media.async.poll-interval:500}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        int capacity = Math.min(batchSize, workers.getQueue().remainingCapacity());
+        if (capacity == 0) {
+            return;
+        }
+
+        for (PendingMediaDto media : postMediaRepository.findPendingMedia(nodeId, LocalDateTime.now(), PageRequest.of(0, capacity))) {
+            if (!claim(media)) {
+                continue;
+            }
+            try {
+                workers.execute(() -> process(media.getId(), media.getPostId(), media.getStorageKey(), media.getAttempts() + 1));
+            } catch (RejectedExecutionException e) {
+                // 선점 시간이 지나면 다시 조회된다
+                log.warn("미디어 업로드 작업자가 가득 참 mediaId={}", media.getId());
+            }
+        }
+    }
+
+    private boolean claim(PendingMediaDto media) {
+        LocalDateTime leaseUntil = LocalDateTime.now().plus(lease);
+        Integer claimed = transactionTemplate.execute(status ->
+                postMediaRepository.claim(media.getId(), media.getAttempts(), leaseUntil));
+        return claimed != null && claimed == 1;
+    }
+
+    void process(Long mediaId, Long postId, String storageKey, int attempt) {
+        Path staged = stagingDir.resolve(storageKey);
+        if (!Files.exists(staged)) {
+            log.error("대기 파일이 없어 업로드할 수 없음 mediaId={}", mediaId);
+            transactionTemplate.executeWithoutResult(status -> postMediaRepository.markFailed(mediaId, LocalDateTime.now()));
+            evictPostCache(postId);
+            return;
+        }
+
+        try {
+            String url = fileService.uploadFileToS3(staged);
+            Integer updated = transactionTemplate.execute(status -> postMediaRepository.markReady(mediaId, url, LocalDateTime.now()));
+            if (updated == null || updated == 0) {
+                // 업로드하는 동안 게시물이 수정/삭제되어 미디어가 없어졌으면 방금 늘린 참조를 되돌린다
+                fileService.releaseFiles(List.of(url));
+            }
+            evictPostCache(postId);
+            deleteStaged(storageKey);
+        } catch (Exception e) {
+            retryOrFail(mediaId, postId, storageKey, attempt, e);
+        }
+    }
+
+    private void retryOrFail(Long mediaId, Long postId, String storageKey, int attempt, Exception e) {
+        if (attempt >= maxAttempts) {
+            log.error("미디어 업로드 실패 mediaId={}, attempt={}", mediaId, attempt, e);
+            transactionTemplate.executeWithoutResult(status -> postMediaRepository.markFailed(mediaId, LocalDateTime.now()));
+            evictPostCache(postId);
+            deleteStaged(storageKey);
+            return;
+        }
+        // 1, 2, 4, 8... 배로 늘려 재시도
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(retryBackoff.multipliedBy(1L << (attempt - 1)));
+        log.warn("미디어 업로드 재시도 예정 mediaId={}, attempt={}, next={}", mediaId, attempt, nextAttemptAt, e);
+        transactionTemplate.executeWithoutResult(status -> postMediaRepository.retryLater(mediaId, nextAttemptAt, LocalDateTime.now()));
+    }
+
+    private void evictPostCache(Long postId) {
+        Cache cache = cacheManager.getCache(CacheConfig.POST_DETAIL);
+        if (cache != null) {
+            cache.evict(postId);
+        }
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            log.warn("서버 이름을 확인할 수 없어 local 로 사용 - newsfeed.media.async.node-id 를 지정하세요", e);
+            return "local";
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void deleteStaged(String storageKey) {
+        try {
+            Files.deleteIfExists(stagingDir.resolve(storageKey));
+        } catch (IOException e) {
+            log.warn("대기 파일 삭제 실패 {}", storageKey, e);
+        }
+    }
+}
@@ -1,129 +1,302 @@
 package com.sparta.wildcard_newsfeed.domain.post.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sparta.wildcard_newsfeed.config.CacheConfig;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCursorResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.PostWithCommentsResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.service.CommentService;
 import com.sparta.wildcard_newsfeed.domain.file.service.FileService;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCursor;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCursorRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCursorResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostMediaResponseDto;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageRequestDto;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageResponseDto;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostSliceResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostVersionDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.MediaStatusEnum;
 import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
 import com.sparta.wildcard_newsfeed.domain.post.entity.PostMedia;
 import com.sparta.wildcard_newsfeed.domain.post.repository.PostMediaRepository;
 import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
 import com.sparta.wildcard_newsfeed.domain.user.entity.User;
 import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
+import com.sparta.wildcard_newsfeed.exception.customexception.ExportBusyException;
 import com.sparta.wildcard_newsfeed.exception.customexception.FileException;
 import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
 import com.sparta.wildcard_newsfeed.util.FileUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_FLUSH_SIZE = 500;
+    private static final int MAX_CONCURRENT_EXPORTS = 2;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PostMediaRepository postMediaRepository;
+    private final CommentService commentService;
     private final FileService fileService;
     private final FileUtils fileUtils;
-
-    @Transactional
+    private final PostCountService postCountService;
+    private final PostMediaOutboxService postMediaOutboxService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    // 내보내기는 응답이 끝날 때까지 DB 커넥션을 점유하므로 동시에 실행할 수 있는 수를 제한한다
+    private final Semaphore exportPermits = new Semaphore(MAX_CONCURRENT_EXPORTS);
+
+    // 첨부파일은 트랜잭션 밖에서 업로드(또는 업로드 대기 등록)하고, 트랜잭션은 DB 저장에만 사용한다
     public PostResponseDto addPost(PostRequestDto postRequestDto, AuthenticationUser user) {
         User byUsercode = userRepository.findByUsercode(user.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        Post post = new Post(postRequestDto, byUsercode);
-        postRepository.save(post);
+        List<PostMedia> postMediaList = preparePostMediaList(postRequestDto);
 
-        List<PostMedia> postMediaList = createPostMediaList(postRequestDto, post);
-        postMediaRepository.saveAll(postMediaList);
+        try {
+            return transactionTemplate.execute(status -> {
+                Post post = new Post(postRequestDto, byUsercode);
+                postRepository.save(post);
+                postCountService.increase();
 
-        List<String> s3Urls = getS3UrlsFromPostMediaList(postMediaList);
+                postMediaList.forEach(postMedia -> postMedia.setPost(post));
+                postMediaRepository.saveAll(postMediaList);
 
-        return new PostResponseDto(post, s3Urls);
+                return createPostResponse(post, postMediaList);
+            });
+        } catch (RuntimeException e) {
+            discardPostMediaList(postMediaList);
+            throw e;
+        }
     }
 
-    public PostResponseDto findById(long id) {
-        Post post = findPostById(id);
+    // 게시물 + 첨부파일 + 댓글 첫 페이지를 댓글 수와 관계없이 쿼리 3번으로 조회
+    // ETag 는 캐시에 넣기 전에 본문으로 계산해 함께 보관한다
+    @Cacheable(cacheNames = CacheConfig.POST_DETAIL, key = "#id")
+    @Transactional(readOnly = true)
+    public PostWithCommentsResponseDto findPostWithComments(long id) {
+        PostResponseDto post = postRepository.findPostResponseById(id)
+                .orElseThrow(() -> new IllegalArgumentException("해당 게시물이 존재하지 않습니다."));
+        List<PostMediaResponseDto> medias = postMediaRepository.findMediaResponsesByPostId(id);
+        post.setMedias(medias);
+        post.setS3Urls(medias.stream()
+                .filter(media -> media.getStatus() == MediaStatusEnum.READY)
+                .map(PostMediaResponseDto::getUrl)
+                .toList());
+
+        CommentCursorResponseDto commentPage = commentService.getFirstCommentPage(id);
+        PostWithCommentsResponseDto response = new PostWithCommentsResponseDto(post, commentPage);
+        response.setEtag(createEtag(response));
+        return response;
+    }
 
-        List<String> s3Urls = getS3UrlsFromPostMediaList(postMediaRepository.findByPostId(id));
+    private String createEtag(PostWithCommentsResponseDto response) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시물 ETag 계산 실패", e);
+        }
+    }
 
-        return new PostResponseDto(post, s3Urls);
+    // 게시물 전체 조회 ETag - 해당 페이지 게시물들의 id, 변경 시점, 좋아요 수, 작성자 이름으로 계산
+    @Transactional(readOnly = true)
+    public String getPostListEtag(int page, int size) {
+        validatePage(page, size);
+        StringBuilder builder = new StringBuilder();
+        for (PostVersionDto version : postRepository.findPostVersions(PageRequest.of(page - 1, size))) {
+            builder.append(version.getPostId()).append(':')
+                    .append(version.getUpdatedAt()).append(':')
+                    .append(version.getLikeCount()).append(':')
+                    .append(version.getUsername()).append(';');
+        }
+        return toEtag(builder.toString());
     }
 
-    public List<PostResponseDto> findAll() {
-        List<Post> postlist = postRepository.findAll();
-        return postlist.stream()
-                .sorted(Comparator.comparing(Post::getCreatedAt).reversed())
-                .map(PostResponseDto::new)
-                .toList();
+    private String toEtag(String version) {
+        return DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8));
     }
 
-    @Transactional
-    public PostResponseDto updatePost(PostRequestDto postRequestDto, Long postId, AuthenticationUser user) {
-        Post post = findPostById(postId);
+    // 정렬과 페이지 자르기는 DB 에서 처리
+    @Transactional(readOnly = true)
+    public List<PostResponseDto> findAll(int page, int size) {
+        validatePage(page, size);
+        return postRepository.findPostResponses(PageRequest.of(page - 1, size));
+    }
 
-        validateUser(post, user);
+    private void validatePage(int page, int size) {
+        if (page < 1) {
+            throw new IllegalArgumentException("유효한 페이지 번호가 아닙니다.");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하만 가능합니다.");
+        }
+    }
 
-        post.update(postRequestDto);
-        postRepository.save(post);
+    // 내보내기 시작 전에 호출 - 자리가 없으면 바로 503 응답, 끝나면 releaseExport 로 반납
+    public void acquireExport() {
+        if (!exportPermits.tryAcquire()) {
+            throw new ExportBusyException();
+        }
+    }
 
-        List<PostMedia> postMediaList = createPostMediaList(postRequestDto, post);
-        post.getPostMedias().clear();
-        postMediaRepository.saveAll(postMediaList);
+    public void releaseExport() {
+        exportPermits.release();
+    }
 
-        List<String> s3Urls = getS3UrlsFromPostMediaList(postMediaList);
+    // 게시물 전체를 NDJSON 으로 내보낸다 - 한 행씩 읽어 바로 쓰므로 게시물 수와 관계없이 메모리 사용량이 일정
+    @Transactional(readOnly = true)
+    public void exportPosts(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(PostResponseDto.class);
+        int count = 0;
+        try (Stream<PostResponseDto> posts = postRepository.streamPostResponses()) {
+            Iterator<PostResponseDto> iterator = posts.iterator();
+            while (iterator.hasNext()) {
+                outputStream.write(writer.writeValueAsBytes(iterator.next()));
+                outputStream.write('\n');
+                if (++count % EXPORT_FLUSH_SIZE == 0) {
+                    outputStream.flush();
+                }
+            }
+        }
+        outputStream.flush();
+        log.info("게시물 내보내기 완료 {}건", count);
+    }
 
-        return new PostResponseDto(post, s3Urls);
+    @CacheEvict(cacheNames = {CacheConfig.POST_DETAIL, CacheConfig.POST_COMMENTS}, key = "#postId")
+    public PostResponseDto updatePost(PostRequestDto postRequestDto, Long postId, AuthenticationUser user) {
+        // 권한이 없는 요청의 파일은 업로드하지 않도록 먼저 확인
+        validateUser(findPostById(postId), user);
+
+        List<PostMedia> postMediaList = preparePostMediaList(postRequestDto);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                Post post = findPostById(postId);
+                validateUser(post, user);
+
+                post.update(postRequestDto);
+                postRepository.save(post);
+
+                // 교체되는 첨부파일의 참조 수를 줄이고, 아직 업로드 전이던 대기 파일은 커밋 후 지운다
+                fileService.releaseFiles(getMediaUrls(post));
+                postMediaOutboxService.discardPending(post.getPostMedias());
+                post.getPostMedias().clear();
+                postMediaList.forEach(postMedia -> postMedia.setPost(post));
+                postMediaRepository.saveAll(postMediaList);
+
+                return createPostResponse(post, postMediaList);
+            });
+        } catch (RuntimeException e) {
+            discardPostMediaList(postMediaList);
+            throw e;
+        }
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.POST_DETAIL, CacheConfig.POST_COMMENTS}, key = "#postId")
     @Transactional
     public void deletePost(Long postId, AuthenticationUser user) {
         Post post = findPostById(postId);
 
         validateUser(post, user);
 
+        fileService.releaseFiles(getMediaUrls(post));
+        postMediaOutboxService.discardPending(post.getPostMedias());
         postRepository.delete(post);
+        postCountService.decrease();
     }
 
-    private List<String> getS3UrlsFromPostMediaList(List<PostMedia> postMediaList) {
-        List<String> s3Urls = new ArrayList<>();
-        if (!postMediaList.isEmpty()) {
-            s3Urls = postMediaList.stream().map(PostMedia::getUrl).toList();
+    // 게시물 저장이 실패하면 트랜잭션 밖에서 준비한 첨부파일을 되돌린다 (늘린 참조 수 감소 / 대기 파일 삭제)
+    private void discardPostMediaList(List<PostMedia> postMediaList) {
+        try {
+            fileService.releaseFiles(getS3UrlsFromPostMediaList(postMediaList));
+        } finally {
+            postMediaOutboxService.discardPending(postMediaList);
+        }
+    }
+
+    private List<String> getMediaUrls(Post post) {
+        if (post.getPostMedias() == null) {
+            return List.of();
         }
-        return s3Urls;
+        return post.getPostMedias().stream().map(PostMedia::getUrl).toList();
+    }
+
+    private List<String> getS3UrlsFromPostMediaList(List<PostMedia> postMediaList) {
+        return postMediaList.stream()
+                .filter(postMedia -> postMedia.getStatus() == MediaStatusEnum.READY)
+                .map(PostMedia::getUrl)
+                .toList();
     }
 
-    private List<PostMedia> createPostMediaList(PostRequestDto postRequestDto, Post post) {
+    private PostResponseDto createPostResponse(Post post, List<PostMedia> postMediaList) {
+        PostResponseDto postResponseDto = new PostResponseDto(post, getS3UrlsFromPostMediaList(postMediaList));
+        postResponseDto.setMedias(postMediaList.stream().map(PostMediaResponseDto::of).toList());
+        return postResponseDto;
+    }
+
+    /**
+     * 게시물에 연결하기 전의 첨부파일 목록
+     * 비동기 업로드를 사용하면 파일을 대기 폴더로 옮기고 PENDING 으로,
+     * 아니면 동시에 업로드한 뒤 READY 로 만든다.
+     */
+    private List<PostMedia> preparePostMediaList(PostRequestDto postRequestDto) {
+        List<MultipartFile> files = postRequestDto.getFiles();
+        if (files == null || files.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (files.size() > 5) {
+            throw new FileException("한 게시물당 최대 5개까지만 저장 가능합니다.");
+        }
+        fileUtils.validFile(files);
+
         List<PostMedia> postMediaList = new ArrayList<>();
-        if (!postRequestDto.getFiles().isEmpty()) {
-            if (postRequestDto.getFiles().size() > 5) {
-                throw new FileException("한 게시물당 최대 5개까지만 저장 가능합니다.");
-            }
-            fileUtils.validFile(postRequestDto.getFiles());
-
-            for (MultipartFile file : postRequestDto.getFiles()) {
-                String s3Url = fileService.uploadFileToS3(file);
-                PostMedia postMedia = new PostMedia();
-                postMedia.setUrl(s3Url);
-                postMedia.setPost(post);
-                postMedia.setType(fileUtils.extractExtension(file.getOriginalFilename()));
-                postMediaList.add(postMedia);
+        if (postMediaOutboxService.isEnabled()) {
+            List<String> storageKeys = postMediaOutboxService.stage(files);
+            for (int i = 0; i < files.size(); i++) {
+                String type = fileUtils.extractExtension(files.get(i).getOriginalFilename());
+                postMediaList.add(PostMedia.pending(storageKeys.get(i), type, postMediaOutboxService.getNodeId()));
             }
+            return postMediaList;
+        }
+
+        List<String> s3Urls = fileService.uploadFilesToS3(files);
+        for (int i = 0; i < files.size(); i++) {
+            PostMedia postMedia = new PostMedia();
+            postMedia.setUrl(s3Urls.get(i));
+            postMedia.setType(fileUtils.extractExtension(files.get(i).getOriginalFilename()));
+            postMediaList.add(postMedia);
         }
         return postMediaList;
     }
@@ -143,40 +316,14 @@ public class PostService {
     public Page<PostPageResponseDto> getPostPage(PostPageRequestDto requestDto) {
         log.info(requestDto.toString());
 
-        Sort.Direction direction = Sort.Direction.DESC; //ASC 오름차순 , DESC 내림차순
-        //- 생성일자 기준 최신 - 좋아요 많은 순
-
-        // --- 정렬 방식 ---
-        //CREATE  or  LIKED
-        String sortBy = "created_at";
-        if (requestDto.getSortBy().equals("CREATE")) {
-            sortBy = "createdAt";
-        } else if (requestDto.getSortBy().equals("LIKED")) {
-            sortBy = "likeCount";
-        } else
-            throw new IllegalArgumentException("정렬은 CREATE 또는 LIKED 만 입력 가능합니다.");
-
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(requestDto.getPage() - 1, requestDto.getSize(), sort);
-
-        Page<PostPageResponseDto> postList = null;
+        Pageable pageable = createFeedPageable(requestDto);
 
         //---날짜 부분 ---
-        LocalDate lastDate = LocalDate.now();
-        LocalDate firstDate = LocalDate.parse("2000-01-01");
-        // null 이면 모든 날짜를 조회
-
-        if (requestDto.getLastDate() != null && requestDto.getFirstDate() != null) {
-            // 날짜 정보가 있으면 해당 날짜만 조회
-            try {
-                lastDate = LocalDate.parse(requestDto.getLastDate());
-                firstDate = LocalDate.parse(requestDto.getFirstDate());
-            } catch (Exception e) {
-                throw new IllegalArgumentException("날짜 포맷이 정상적이지 않습니다.");
-            }
-        }
+        // null 이면 모든 날짜를 조회, 날짜 정보가 있으면 해당 날짜만 조회
+        LocalDate firstDate = resolveFirstDate(requestDto.getFirstDate(), requestDto.getLastDate());
+        LocalDate lastDate = resolveLastDate(requestDto.getFirstDate(), requestDto.getLastDate());
 
-        postList = postRepository.findPostPages(firstDate.atStartOfDay().toString(), lastDate.atTime(LocalTime.MAX).toString(), pageable);
+        Page<PostPageResponseDto> postList = postRepository.findPostPages(firstDate.atStartOfDay().toString(), lastDate.atTime(LocalTime.MAX).toString(), pageable);
 
         if (postList.getTotalElements() <= 0) {
             log.error("페이지 없음");
@@ -188,4 +335,121 @@ public class PostService {
 
         return postList;
     }
-}
\ No newline at end of file
+
+    // COUNT 쿼리 없는 페이지네이션 - 전체 개수가 필요하면 withTotal 로 캐시된 값을 받는다
+    @Transactional(readOnly = true)
+    public PostSliceResponseDto getPostSlice(PostPageRequestDto requestDto) {
+        Pageable pageable = createFeedPageable(requestDto);
+
+        LocalDate firstDate = resolveFirstDate(requestDto.getFirstDate(), requestDto.getLastDate());
+        LocalDate lastDate = resolveLastDate(requestDto.getFirstDate(), requestDto.getLastDate());
+
+        Slice<PostPageResponseDto> postSlice = postRepository.findPostSlices(firstDate.atStartOfDay().toString(), lastDate.atTime(LocalTime.MAX).toString(), pageable);
+
+        if (!postSlice.hasContent()) {
+            if (requestDto.getPage() == 1) {
+                throw new IllegalArgumentException("페이지가 존재하지 않습니다.");
+            }
+            throw new IllegalArgumentException("유효한 페이지 번호가 아닙니다.");
+        }
+
+        Long totalElements = null;
+        Integer totalPages = null;
+        // 기간 검색은 범위마다 개수가 달라 캐시할 수 없으므로 전체 조회일 때만 제공
+        boolean isAllPeriod = requestDto.getFirstDate() == null || requestDto.getLastDate() == null;
+        if (requestDto.isWithTotal() && isAllPeriod) {
+            totalElements = postCountService.getTotalCount();
+            totalPages = (int) Math.ceil((double) totalElements / requestDto.getSize());
+        }
+
+        return PostSliceResponseDto.builder()
+                .content(postSlice.getContent())
+                .page(requestDto.getPage())
+                .size(requestDto.getSize())
+                .hasNext(postSlice.hasNext())
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .build();
+    }
+
+    // 커서 기반 페이지네이션 - OFFSET 없이 마지막으로 본 게시물 이후부터 조회
+    @Transactional(readOnly = true)
+    public PostCursorResponseDto getPostCursorPage(PostCursorRequestDto requestDto) {
+        String sortBy = requestDto.getSortBy();
+        resolveSortProperty(sortBy); // 정렬 기준 검증
+
+        LocalDate firstDate = resolveFirstDate(requestDto.getFirstDate(), requestDto.getLastDate());
+        LocalDate lastDate = resolveLastDate(requestDto.getFirstDate(), requestDto.getLastDate());
+        LocalDateTime endDateTime = lastDate.atTime(LocalTime.MAX);
+        String startDate = firstDate.atStartOfDay().toString();
+        String endDate = endDateTime.toString();
+
+        // 첫 페이지는 검색 기간 마지막 시점의 가상 커서에서 시작
+        PostCursor cursor = requestDto.getCursor() == null || requestDto.getCursor().isBlank()
+                ? null
+                : PostCursor.decode(requestDto.getCursor(), sortBy);
+
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        int fetchSize = requestDto.getSize() + 1;
+        List<PostPageResponseDto> postList;
+        if (sortBy.equals("CREATE")) {
+            LocalDateTime cursorCreatedAt = cursor == null ? endDateTime : cursor.getCreatedAt();
+            Long cursorId = cursor == null ? Long.MAX_VALUE : cursor.getId();
+            postList = postRepository.findPostsByCreatedAtCursor(startDate, endDate, cursorCreatedAt, cursorId, fetchSize);
+        } else {
+            Long cursorLikeCount = cursor == null ? Long.MAX_VALUE : cursor.getLikeCount();
+            Long cursorId = cursor == null ? Long.MAX_VALUE : cursor.getId();
+            postList = postRepository.findPostsByLikeCountCursor(startDate, endDate, cursorLikeCount, cursorId, fetchSize);
+        }
+
+        boolean hasNext = postList.size() > requestDto.getSize();
+        List<PostPageResponseDto> posts = hasNext ? postList.subList(0, requestDto.getSize()) : postList;
+        String nextCursor = hasNext ? PostCursor.from(sortBy, posts.get(posts.size() - 1)).encode() : null;
+
+        return PostCursorResponseDto.builder()
+                .posts(posts)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private Pageable createFeedPageable(PostPageRequestDto requestDto) {
+        Sort.Direction direction = Sort.Direction.DESC; //ASC 오름차순 , DESC 내림차순
+        // 같은 값이 여러 개일 때 페이지 경계가 흔들리지 않도록 id 로 한 번 더 정렬 (post(created_at, id), post(like_count, id) 인덱스 사용)
+        Sort sort = Sort.by(direction, resolveSortProperty(requestDto.getSortBy()), "postId");
+        return PageRequest.of(requestDto.getPage() - 1, requestDto.getSize(), sort);
+    }
+
+    // --- 정렬 방식 ---
+    //CREATE  or  LIKED - 생성일자 기준 최신 - 좋아요 많은 순
+    private String resolveSortProperty(String sortBy) {
+        if (sortBy.equals("CREATE")) {
+            return "createdAt";
+        } else if (sortBy.equals("LIKED")) {
+            return "likeCount";
+        }
+        throw new IllegalArgumentException("정렬은 CREATE 또는 LIKED 만 입력 가능합니다.");
+    }
+
+    private LocalDate resolveFirstDate(String firstDate, String lastDate) {
+        if (firstDate == null || lastDate == null) {
+            return LocalDate.parse("2000-01-01");
+        }
+        return parseDate(firstDate);
+    }
+
+    private LocalDate resolveLastDate(String firstDate, String lastDate) {
+        if (firstDate == null || lastDate == null) {
+            return LocalDate.now();
+        }
+        return parseDate(lastDate);
+    }
+
+    private LocalDate parseDate(String date) {
+        try {
+            return LocalDate.parse(date);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("날짜 포맷이 정상적이지 않습니다.");
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.sparta.wildcard_newsfeed.domain.token.controller;
 import com.sparta.wildcard_newsfeed.domain.common.CommonResponseDto;
 import com.sparta.wildcard_newsfeed.domain.token.dto.TokenResponseDto;
 import com.sparta.wildcard_newsfeed.domain.token.service.TokenService;
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -39,9 +40,9 @@ public class TokenController {
     })
     public ResponseEntity<CommonResponseDto> refreshTokenReissue(HttpServletRequest request) {
         log.info("access token 재발급");
-        String refreshTokenHeader = tokenService.validateTokenExpire(request);
+        Claims refreshClaims = tokenService.validateTokenExpire(request);
 
-        TokenResponseDto responseDto = tokenService.getFindUser(refreshTokenHeader);
+        TokenResponseDto responseDto = tokenService.getFindUser(request, refreshClaims);
 
         CommonResponseDto commonResponseDto = CommonResponseDto.builder()
                 .message(responseDto.getUsercode() + "님 재발급 성공")
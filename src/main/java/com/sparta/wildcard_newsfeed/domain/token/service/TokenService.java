@@ -5,7 +5,9 @@ import com.sparta.wildcard_newsfeed.domain.user.dto.UserResponseFromTokenDto;
 import com.sparta.wildcard_newsfeed.domain.user.service.UserService;
 import com.sparta.wildcard_newsfeed.exception.customexception.TokenNotFoundException;
 import com.sparta.wildcard_newsfeed.security.jwt.JwtUtil;
+import com.sparta.wildcard_newsfeed.security.jwt.RefreshTokenManager;
 import com.sparta.wildcard_newsfeed.security.jwt.dto.TokenDto;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -18,8 +20,10 @@ public class TokenService {
 
     private final JwtUtil jwtUtil;
     private final UserService userService;
+    private final RefreshTokenManager refreshTokenManager;
 
-    public String validateTokenExpire(HttpServletRequest request) {
+    // 검증한 refresh token 의 Claims 를 돌려준다 (재발급에서 다시 파싱하지 않도록)
+    public Claims validateTokenExpire(HttpServletRequest request) {
         String accessTokenHeader = jwtUtil.getAccessTokenFromHeader(request);
         String refreshTokenHeader = jwtUtil.getRefreshTokenFromHeader(request);
 
@@ -28,20 +32,35 @@ public class TokenService {
             throw new TokenNotFoundException("토큰을 찾을 수 없습니다.");
         }
         //refresh token이 유효하지 않은 경우
-        if (!jwtUtil.validateToken(request, refreshTokenHeader)) {
+        Claims refreshClaims = jwtUtil.validateAndGetClaims(request, refreshTokenHeader);
+        if (refreshClaims == null) {
             throw new TokenNotFoundException("유효하지 않은 토큰입니다.");
         }
-        return refreshTokenHeader;
+        return refreshClaims;
     }
 
     @Transactional
-    public TokenResponseDto getFindUser(String refreshTokenHeader) {
-        String usercode = jwtUtil.getUserInfoFromToken(refreshTokenHeader).getSubject();
-        UserResponseFromTokenDto findUserDto = userService.findByUsercode(usercode);
+    public TokenResponseDto getFindUser(HttpServletRequest request, Claims refreshClaims) {
+        String refreshTokenHeader = jwtUtil.getRefreshTokenFromHeader(request);
+        UserResponseFromTokenDto findUserDto = userService.findByUsercode(refreshClaims.getSubject());
 
         TokenDto tokenDto = jwtUtil.generateAccessTokenAndRefreshToken(findUserDto.getUsercode());
         String refreshTokenValue = tokenDto.getRefreshToken().substring(7);
-        userService.updateRefreshToken(findUserDto.getUsercode(), refreshTokenValue);
+        //사용한 refresh token 을 원자적으로 폐기한 요청만 새 토큰을 받는다 (동시에 같은 토큰으로 요청하면 하나만 통과)
+        //저장소에 있으면 저장소에서 꺼낸 요청이, 없으면(재시작 등) 사용자 테이블의 값을 바꾼 요청이 통과
+        boolean rotated;
+        if (refreshTokenManager.revoke(refreshClaims)) {
+            userService.updateRefreshToken(findUserDto.getUsercode(), refreshTokenValue);
+            rotated = true;
+        } else {
+            rotated = userService.rotateRefreshToken(findUserDto.getUsercode(), refreshTokenHeader, refreshTokenValue);
+        }
+        //폐기되었거나 이미 재발급에 사용된 refresh token 인 경우
+        if (!rotated) {
+            throw new TokenNotFoundException("유효하지 않은 토큰입니다.");
+        }
+        //새 토큰을 검증 캐시에 올려 두면 다음 요청에서 다시 파싱하지 않는다
+        refreshTokenManager.register(jwtUtil.validateAndGetClaims(request, refreshTokenValue));
 
         return TokenResponseDto.of(findUserDto, tokenDto);
 
@@ -2,6 +2,9 @@ package com.sparta.wildcard_newsfeed.domain.user.repository;
 
 import com.sparta.wildcard_newsfeed.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -9,4 +12,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsercode(String usercode);
 
     Optional<User> findByUsercodeOrEmail(String usercode, String email);
+
+    // 저장된 refresh token 이 그대로일 때만 교체 - 동시에 같은 토큰으로 바꾸면 하나만 1 을 반환
+    @Modifying
+    @Query("update User u set u.refreshToken = :newRefreshToken " +
+            "where u.usercode = :usercode and u.refreshToken = :currentRefreshToken")
+    int updateRefreshTokenIfMatches(@Param("usercode") String usercode,
+                                    @Param("currentRefreshToken") String currentRefreshToken,
+                                    @Param("newRefreshToken") String newRefreshToken);
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import com.sparta.wildcard_newsfeed.domain.user.repository.AuthCodeRepository;
 import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
 import com.sparta.wildcard_newsfeed.exception.customexception.UserNotFoundException;
 import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -32,6 +34,7 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final ApplicationEventPublisher eventPublisher;
     private final FileService fileService;
+    private final AuthenticationUserService authenticationUserService;
 
     private static final Long MAX_EXPIRE_TIME = 180L;
 
@@ -78,6 +81,7 @@ public class UserService {
         }
 
         findUser.setUserStatus(UserStatusEnum.DISABLED);
+        authenticationUserService.evict(usercode);
     }
 
     @Transactional(readOnly = true)
@@ -116,8 +120,8 @@ public class UserService {
             }
         }
         if (requestDto.getPassword() != null && requestDto.getChangePassword() != null) {
-            if (!passwordEncoder.matches(requestDto.getPassword(), loginUser.getPassword())
-                    || !passwordEncoder.matches(requestDto.getPassword(), findUser.getPassword())) {
+            // 로그인 사용자와 findUser 는 같은 사용자이므로 DB 에 저장된 비밀번호로 한 번만 확인
+            if (!passwordEncoder.matches(requestDto.getPassword(), findUser.getPassword())) {
                 throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
             }
             if (requestDto.getPassword().equals(requestDto.getChangePassword())) {
@@ -125,10 +129,13 @@ public class UserService {
             }
         }
 
-        requestDto.encryptPassword(passwordEncoder.encode(requestDto.getChangePassword()));
+        if (requestDto.getChangePassword() != null) {
+            requestDto.encryptPassword(passwordEncoder.encode(requestDto.getChangePassword()));
+        }
         findUser.update(requestDto);
 
         User savedUser = userRepository.save(findUser);
+        authenticationUserService.evict(findUser.getUsercode());
         return UserResponseDto.of(savedUser);
     }
 
@@ -142,6 +149,15 @@ public class UserService {
     public void updateRefreshToken(String usercode, String refreshToken) {
         User user = userRepository.findByUsercode(usercode).orElseThrow(UserNotFoundException::new);
         user.setRefreshToken(refreshToken);
+        authenticationUserService.evict(usercode);
+    }
+
+    // 저장소에 없는 refresh token(재시작 등)으로 재발급할 때 - 사용자 테이블의 값이 그대로일 때만 바꾼다
+    @Transactional
+    public boolean rotateRefreshToken(String usercode, String currentRefreshToken, String newRefreshToken) {
+        int updated = userRepository.updateRefreshTokenIfMatches(usercode, currentRefreshToken, newRefreshToken);
+        authenticationUserService.evict(usercode);
+        return updated == 1;
     }
 
     @Transactional
@@ -155,6 +171,9 @@ public class UserService {
 
         String s3Url = fileService.uploadFileToS3(file);
         log.info("S3에 저장한 파일 주소: {}", s3Url);
+        if (findUser.getProfileImageUrl() != null) {
+            fileService.releaseFiles(List.of(findUser.getProfileImageUrl()));
+        }
         findUser.setProfileImageUrl(s3Url);
 
         return s3Url;
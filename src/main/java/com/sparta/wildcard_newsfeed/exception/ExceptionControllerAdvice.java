@@ -1,8 +1,11 @@
 package com.sparta.wildcard_newsfeed.exception;
 
 import com.sparta.wildcard_newsfeed.domain.common.error.ErrorResponseDto;
+import com.sparta.wildcard_newsfeed.exception.customexception.ExportBusyException;
 import com.sparta.wildcard_newsfeed.exception.customexception.FileException;
 import com.sparta.wildcard_newsfeed.exception.customexception.FileSizeExceededException;
+import com.sparta.wildcard_newsfeed.exception.customexception.LikeQueueFullException;
+import com.sparta.wildcard_newsfeed.exception.customexception.PasswordHashingBusyException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
@@ -77,4 +80,31 @@ public class ExceptionControllerAdvice {
                         .message(e.getMessage())
                         .build());
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(LikeQueueFullException.class)
+    public ResponseEntity<ErrorResponseDto> likeQueueFullException(LikeQueueFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorResponseDto.builder()
+                        .statusCode(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        .message(e.getMessage())
+                        .build());
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ErrorResponseDto> passwordHashingBusyException(PasswordHashingBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorResponseDto.builder()
+                        .statusCode(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        .message(e.getMessage())
+                        .build());
+    }
+
+    @ExceptionHandler(ExportBusyException.class)
+    public ResponseEntity<ErrorResponseDto> exportBusyException(ExportBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorResponseDto.builder()
+                        .statusCode(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        .message(e.getMessage())
+                        .build());
+    }
+}
@@ -0,0 +1,10 @@
+package com.sparta.wildcard_newsfeed.exception.customexception;
+
+import lombok.Getter;
+
+@Getter
+public class ExportBusyException extends RuntimeException {
+    public ExportBusyException() {
+        super("내보내기 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
@@ -1,22 +1,45 @@
 package com.sparta.wildcard_newsfeed.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sparta.wildcard_newsfeed.domain.user.entity.User;
 import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
 import com.sparta.wildcard_newsfeed.exception.customexception.UserNotFoundException;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
 
 @Slf4j(topic = "유저검증")
 @Service
-@RequiredArgsConstructor
 public class AuthenticationUserService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    // 인가용 사용자 정보 캐시 - 크기 + TTL 로 제한, hit ratio 는 /actuator/metrics/cache.gets?tag=cache:principal
+    private final Cache<String, CachedPrincipal> principalCache;
+
+    public AuthenticationUserService(UserRepository userRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${newsfeed.principal-cache.maximum-size:10000}") long maximumSize,
+                                     @Value("${newsfeed.principal-cache.expire-after-write:60s}") Duration expireAfterWrite) {
+        this.userRepository = userRepository;
+        this.principalCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principalCache, "principal");
+    }
 
+    // 로그인 시 비밀번호 검증용 - 항상 DB 에서 최신 값을 읽는다
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsercode(username)
@@ -24,4 +47,35 @@ public class AuthenticationUserService implements UserDetailsService {
 
         return AuthenticationUser.of(user);
     }
-}
\ No newline at end of file
+
+    // 인가용 - 캐시에 없을 때만 DB 에서 읽는다
+    public CachedPrincipal getPrincipal(String usercode) {
+        return principalCache.get(usercode, this::findPrincipal);
+    }
+
+    // 캐시된 값이 오래됐을 수 있을 때 DB 에서 다시 읽어 캐시를 갱신
+    public CachedPrincipal reloadPrincipal(String usercode) {
+        CachedPrincipal principal = findPrincipal(usercode);
+        principalCache.put(usercode, principal);
+        return principal;
+    }
+
+    // 사용자 정보/refresh token 변경 시 호출 - 커밋 전에 다시 캐시된 값도 커밋 이후에 한 번 더 지운다
+    public void evict(String usercode) {
+        principalCache.invalidate(usercode);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principalCache.invalidate(usercode);
+                }
+            });
+        }
+    }
+
+    private CachedPrincipal findPrincipal(String usercode) {
+        User user = userRepository.findByUsercode(usercode)
+                .orElseThrow(UserNotFoundException::new);
+        return new CachedPrincipal(AuthenticationUser.of(user), user.getRefreshToken());
+    }
+}
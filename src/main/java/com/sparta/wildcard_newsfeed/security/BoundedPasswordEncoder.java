@@ -0,0 +1,91 @@
+package com.sparta.wildcard_newsfeed.security;
+
+import com.sparta.wildcard_newsfeed.exception.customexception.PasswordHashingBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * BCrypt 해싱을 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * 동시에 해싱하는 수를 제한해 로그인이 몰려도 다른 요청이 CPU 를 쓸 수 있게 하고,
+ * 대기열이 가득 차거나 대기 시간이 지나면 PasswordHashingBusyException 으로 바로 거절한다.
+ *
+ * 요청 스레드는 해싱이 끝날 때까지(최대 timeout) future.get 에서 기다린다.
+ * PasswordEncoder 와 이를 호출하는 인증 흐름(DaoAuthenticationProvider)이 동기 방식이라 스레드를 돌려줄 수는 없고,
+ * 이 클래스가 줄이는 것은 동시에 CPU 를 쓰는 해싱 수와 붙잡히는 요청 스레드 수(동시 실행 수 + 대기열)다.
+ * 그 이상은 기다리지 않고 바로 거절되므로 나머지 요청 스레드는 다른 요청을 처리한다.
+ */
+@Slf4j(topic = "password hashing")
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int concurrency, int queueCapacity, Duration timeout) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("해싱 대기열이 가득 참");
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("해싱 대기 시간 초과");
+            throw new PasswordHashingBusyException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
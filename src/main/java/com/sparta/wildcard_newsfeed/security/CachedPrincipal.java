@@ -0,0 +1,15 @@
+package com.sparta.wildcard_newsfeed.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인가 필터에서 사용하는 사용자 정보 캐시 항목
+ * 저장된 refresh token 을 함께 보관해 요청마다 사용자 테이블을 읽지 않고 비교한다.
+ */
+@Getter
+@AllArgsConstructor
+public class CachedPrincipal {
+    private final AuthenticationUser user;
+    private final String refreshToken;
+}
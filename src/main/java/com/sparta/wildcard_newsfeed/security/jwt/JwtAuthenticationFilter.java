@@ -5,6 +5,7 @@ import com.sparta.wildcard_newsfeed.domain.common.CommonResponseDto;
 import com.sparta.wildcard_newsfeed.domain.common.error.ErrorResponseDto;
 import com.sparta.wildcard_newsfeed.domain.user.entity.User;
 import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
+import com.sparta.wildcard_newsfeed.exception.customexception.PasswordHashingBusyException;
 import com.sparta.wildcard_newsfeed.exception.customexception.UserNotFoundException;
 import com.sparta.wildcard_newsfeed.security.jwt.dto.AuthRequestDto;
 import com.sparta.wildcard_newsfeed.security.jwt.dto.TokenDto;
@@ -13,6 +14,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -28,13 +30,16 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     private final ObjectMapper objectMapper;
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
+    private final RefreshTokenManager refreshTokenManager;
 
 
-    public JwtAuthenticationFilter(ObjectMapper objectMapper, JwtUtil jwtUtil, UserRepository userRepository
+    public JwtAuthenticationFilter(ObjectMapper objectMapper, JwtUtil jwtUtil, UserRepository userRepository,
+                                   RefreshTokenManager refreshTokenManager
     ) {
         this.objectMapper = objectMapper;
         this.jwtUtil = jwtUtil;
         this.userRepository = userRepository;
+        this.refreshTokenManager = refreshTokenManager;
         setFilterProcessesUrl("/api/v1/user/login");
     }
 
@@ -50,6 +55,9 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
                             null
                     )
             );
+        } catch (PasswordHashingBusyException e) {
+            // 해싱 대기열이 가득 찬 경우 - unsuccessfulAuthentication 에서 503 으로 응답
+            throw new AuthenticationServiceException(e.getMessage(), e);
         } catch (IOException e) {
             //TODO 로그인의 요청파라미터가 없는 경우
             log.error("attemptAuthentication 예외 발생 {} ", e.getMessage());
@@ -67,6 +75,8 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         String refreshTokenValue = tokenDto.getRefreshToken().substring(7);
         user.setRefreshToken(refreshTokenValue);
         userRepository.save(user);
+        // 새 토큰을 검증 캐시에 올려 두면 다음 요청에서 다시 파싱하지 않는다
+        refreshTokenManager.register(jwtUtil.validateAndGetClaims(request, refreshTokenValue));
 
         loginSuccessResponse(response, tokenDto);
     }
@@ -90,14 +100,16 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException {
         log.error("unsuccessfulAuthentication | 로그인 실패");
+        HttpStatus status = failed.getCause() instanceof PasswordHashingBusyException
+                ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.UNAUTHORIZED;
         ErrorResponseDto errorResponseDto = ErrorResponseDto.builder()
-                .statusCode(HttpStatus.UNAUTHORIZED.value())
-                .message("로그인 실패하였습니다.")
+                .statusCode(status.value())
+                .message(status == HttpStatus.SERVICE_UNAVAILABLE ? failed.getMessage() : "로그인 실패하였습니다.")
                 .build();
 
         String body = objectMapper.writeValueAsString(errorResponseDto);
 
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setStatus(status.value());
         response.setContentType("application/json;charset=UTF-8");
         response.getWriter().write(body);
     }
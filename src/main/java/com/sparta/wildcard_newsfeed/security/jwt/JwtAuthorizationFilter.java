@@ -1,10 +1,10 @@
 package com.sparta.wildcard_newsfeed.security.jwt;
 
-import com.sparta.wildcard_newsfeed.domain.user.entity.User;
-import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
 import com.sparta.wildcard_newsfeed.exception.customexception.TokenNotFoundException;
-import com.sparta.wildcard_newsfeed.exception.customexception.UserNotFoundException;
 import com.sparta.wildcard_newsfeed.security.AuthenticationUserService;
+import com.sparta.wildcard_newsfeed.security.CachedPrincipal;
+import com.sparta.wildcard_newsfeed.security.jwt.enums.JwtPropertiesEnum;
+import com.sparta.wildcard_newsfeed.security.jwt.store.RevokedTokenStore;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -26,12 +26,15 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final AuthenticationUserService authenticationUserService;
-    private final UserRepository userRepository;
+    private final RefreshTokenManager refreshTokenManager;
+    private final RevokedTokenStore revokedTokenStore;
 
-    public JwtAuthorizationFilter(JwtUtil jwtUtil, AuthenticationUserService authenticationUserService, UserRepository userRepository) {
+    public JwtAuthorizationFilter(JwtUtil jwtUtil, AuthenticationUserService authenticationUserService,
+                                  RefreshTokenManager refreshTokenManager, RevokedTokenStore revokedTokenStore) {
         this.jwtUtil = jwtUtil;
         this.authenticationUserService = authenticationUserService;
-        this.userRepository = userRepository;
+        this.refreshTokenManager = refreshTokenManager;
+        this.revokedTokenStore = revokedTokenStore;
     }
 
     @Override
@@ -39,50 +42,56 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         String accessTokenValue = jwtUtil.getAccessTokenFromHeader(req);
 
         log.info("access token 검증");
-        if (StringUtils.hasText(accessTokenValue) && jwtUtil.validateToken(req, accessTokenValue)) {
-            log.info("refresh token 검증");
-
-            String refreshTokenValue = jwtUtil.getRefreshTokenFromHeader(req);
-            if (StringUtils.hasText(refreshTokenValue) && jwtUtil.validateToken(req, refreshTokenValue)) {
-                String usercode = jwtUtil.getUserInfoFromToken(refreshTokenValue).getSubject();
-                User findUser = userRepository.findByUsercode(usercode)
-                        .orElseThrow(UserNotFoundException::new);
-
-                if (isValidateUserAndToken(usercode, findUser, refreshTokenValue)) {
-                    //access token 및 refresh token 검증 완료
-                    log.info("Token 인증 완료");
-                    Claims info = jwtUtil.getUserInfoFromToken(accessTokenValue);
-                    setAuthentication(info.getSubject());
-                }
+        // 토큰마다 한 번만 파싱하고, 사용자는 캐시에 없을 때만 조회한다
+        Claims accessClaims = StringUtils.hasText(accessTokenValue) ? jwtUtil.validateAndGetClaims(req, accessTokenValue) : null;
+        if (accessClaims != null && revokedTokenStore.isRevoked(accessClaims.getId(), accessClaims.getExpiration())) {
+            log.error("로그아웃된 Access Token");
+            req.setAttribute("jwtException", JwtPropertiesEnum.REVOKED_JWT_TOKEN.getErrorMessage());
+            accessClaims = null;
+        }
+        // refresh token 은 access token 만료가 가까울 때만 저장소(jti)에서 확인한다
+        if (accessClaims != null
+                && (!refreshTokenManager.needsRefreshCheck(accessClaims) || isValidRefreshToken(req, accessClaims.getSubject()))) {
+            CachedPrincipal principal = authenticationUserService.getPrincipal(accessClaims.getSubject());
+            // 폐기 목록은 서버마다 메모리에 있으므로 재시작/다른 서버에서는 비어 있다
+            // 로그아웃하면 저장된 refresh token 이 지워지므로, 없으면 로그아웃된 사용자로 보고 거절한다
+            if (principal.getRefreshToken() == null) {
+                log.error("로그아웃된 사용자의 Access Token");
+                req.setAttribute("jwtException", JwtPropertiesEnum.REVOKED_JWT_TOKEN.getErrorMessage());
             } else {
-                log.error("유효하지 않는 Refersh Token");
-                throw new TokenNotFoundException("토큰에 문제가 생김");
+                log.info("Token 인증 완료");
+                setAuthentication(principal.getUser());
             }
         }
         filterChain.doFilter(req, res);
     }
 
-    private boolean isValidateUserAndToken(String usercode, User findUser, String refreshTokenValue) {
-        if (usercode.equals(findUser.getUsercode())
-                && refreshTokenValue.equals(findUser.getRefreshToken())) {
-            return true;
+    // refresh token 이 access token 과 같은 사용자의 것이고, 폐기되지 않았는지 확인
+    private boolean isValidRefreshToken(HttpServletRequest req, String usercode) {
+        log.info("refresh token 검증");
+
+        String refreshTokenValue = jwtUtil.getRefreshTokenFromHeader(req);
+        Claims refreshClaims = StringUtils.hasText(refreshTokenValue) ? jwtUtil.validateAndGetClaims(req, refreshTokenValue) : null;
+        if (refreshClaims == null) {
+            log.error("유효하지 않는 Refersh Token");
+            throw new TokenNotFoundException("토큰에 문제가 생김");
         }
-        return false;
+        return usercode.equals(refreshClaims.getSubject())
+                && refreshTokenManager.isActive(refreshClaims, refreshTokenValue);
     }
 
 
     // 인증 처리
-    public void setAuthentication(String username) {
+    public void setAuthentication(UserDetails userDetails) {
         SecurityContext context = SecurityContextHolder.createEmptyContext();
-        Authentication authentication = createAuthentication(username);
+        Authentication authentication = createAuthentication(userDetails);
         context.setAuthentication(authentication);
 
         SecurityContextHolder.setContext(context);
     }
 
-    // 인증 객체 생성
-    private Authentication createAuthentication(String username) {
-        UserDetails userDetails = authenticationUserService.loadUserByUsername(username);
+    // 인증 객체 생성 - 이미 조회한 사용자로 만든다 (다시 조회하지 않음)
+    private Authentication createAuthentication(UserDetails userDetails) {
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
-}
\ No newline at end of file
+}
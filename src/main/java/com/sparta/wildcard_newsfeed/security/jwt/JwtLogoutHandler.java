@@ -4,6 +4,9 @@ import com.sparta.wildcard_newsfeed.domain.user.entity.User;
 import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
 import com.sparta.wildcard_newsfeed.exception.customexception.TokenNotFoundException;
 import com.sparta.wildcard_newsfeed.exception.customexception.UserNotFoundException;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUserService;
+import com.sparta.wildcard_newsfeed.security.jwt.store.RevokedTokenStore;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +23,9 @@ public class JwtLogoutHandler implements LogoutHandler {
 
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
+    private final AuthenticationUserService authenticationUserService;
+    private final RefreshTokenManager refreshTokenManager;
+    private final RevokedTokenStore revokedTokenStore;
 
     @Override
     public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
@@ -32,10 +38,25 @@ public class JwtLogoutHandler implements LogoutHandler {
             log.error("로그아웃 시도 중 에러 발생");
             throw new TokenNotFoundException("토큰을 찾을 수 없습니다.");
         }
-        String usercode = jwtUtil.getUserInfoFromToken(refreshTokenValue).getSubject();
+        // 인가 필터에서 검증한 토큰이면 캐시된 Claims 를 그대로 쓴다
+        Claims refreshClaims = refreshTokenValue == null ? null : jwtUtil.validateAndGetClaims(request, refreshTokenValue);
+        if (refreshClaims == null) {
+            log.error("로그아웃 시도 중 에러 발생");
+            throw new TokenNotFoundException("유효하지 않은 토큰입니다.");
+        }
+        String usercode = refreshClaims.getSubject();
         User findUser = userRepository.findByUsercode(usercode).orElseThrow(UserNotFoundException::new);
         findUser.setRefreshToken(null);
         userRepository.save(findUser);
+        refreshTokenManager.revoke(refreshClaims);
+        // access token 은 만료 전까지 폐기 목록에 올려 다시 쓰지 못하게 한다
+        Claims accessClaims = accessTokenValue == null ? null : jwtUtil.validateAndGetClaims(request, accessTokenValue);
+        if (accessClaims != null) {
+            revokedTokenStore.revoke(accessClaims.getId(), accessClaims.getExpiration());
+        }
+        authenticationUserService.evict(usercode);
+        jwtUtil.invalidateVerifiedToken(accessTokenValue);
+        jwtUtil.invalidateVerifiedToken(refreshTokenValue);
 
         SecurityContextHolder.clearContext();
     }
@@ -2,6 +2,9 @@ package com.sparta.wildcard_newsfeed.security.jwt;
 
 import com.sparta.wildcard_newsfeed.security.jwt.dto.TokenDto;
 import com.sparta.wildcard_newsfeed.security.jwt.enums.JwtPropertiesEnum;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -11,10 +14,15 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static com.sparta.wildcard_newsfeed.security.jwt.JwtConstants.*;
 
@@ -25,12 +33,44 @@ public class JwtUtil {
     @Value("${jwt.secret-key}") // Base64 Encode 한 SecretKey
     private String secret_key;
     private Key key;
+    // 빌드된 파서는 불변이고 thread-safe 하므로 한 번만 만들어 재사용
+    private JwtParser jwtParser;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
+    // 검증이 끝난 토큰의 Claims 캐시 - 같은 토큰으로 반복 요청 시 서명 검증/디코딩을 건너뛴다
+    @Value("${newsfeed.jwt.verified-cache.maximum-size:10000}")
+    private long verifiedCacheSize;
+    @Value("${newsfeed.jwt.verified-cache.max-ttl:5m}")
+    private Duration verifiedCacheMaxTtl;
+    private Cache<String, Claims> verifiedTokens;
+
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secret_key);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    // 토큰 자체의 만료 시각을 넘겨서 캐시하지 않는다
+                    @Override
+                    public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+                        long untilExpiration = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        long ttl = Math.min(untilExpiration, verifiedCacheMaxTtl == null ? 0L : verifiedCacheMaxTtl.toMillis());
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, ttl));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public TokenDto generateAccessTokenAndRefreshToken(String username) {
@@ -93,11 +133,22 @@ public class JwtUtil {
         return null;
     }
 
-    // 토큰 검증
-    public boolean validateToken(HttpServletRequest request, String token) {
+    /**
+     * 토큰 검증 후 Claims 반환 - 검증과 정보 추출을 한 번의 파싱으로 처리
+     * @return 유효하지 않은 토큰이면 null (사유는 request 의 jwtException 속성에 기록)
+     */
+    public Claims validateAndGetClaims(HttpServletRequest request, String token) {
+        String digest = StringUtils.hasText(token) ? digest(token) : null;
+        Claims cached = digest == null ? null : verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (digest != null && claims.getExpiration() != null) {
+                verifiedTokens.put(digest, claims);
+            }
+            return claims;
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
             log.error("Invalid JWT signature, 유효하지 않는 JWT 서명", e);
             request.setAttribute("jwtException", JwtPropertiesEnum.INVALID_TOKEN.getErrorMessage());
@@ -111,11 +162,23 @@ public class JwtUtil {
             log.error("JWT claims is empty, 잘못된 JWT 토큰", e);
             request.setAttribute("jwtException", JwtPropertiesEnum.JWT_CLAIMS_IS_EMPTY.getErrorMessage());
         }
-        return false;
+        return null;
     }
 
-    // 토큰에서 사용자 정보 가져오기
-    public Claims getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    // 로그아웃 등으로 더 이상 사용하지 않는 토큰은 캐시에서 제거
+    public void invalidateVerifiedToken(String token) {
+        if (StringUtils.hasText(token)) {
+            verifiedTokens.invalidate(digest(token));
+        }
+    }
+
+    // 원본 토큰을 메모리에 두지 않도록 SHA-256 값으로 캐시한다
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.sparta.wildcard_newsfeed.security.jwt;
+
+import com.sparta.wildcard_newsfeed.security.AuthenticationUserService;
+import com.sparta.wildcard_newsfeed.security.CachedPrincipal;
+import com.sparta.wildcard_newsfeed.security.jwt.store.RefreshTokenStore;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * refresh token 발급/검증/폐기
+ * 요청마다 사용자 테이블을 읽지 않고 jti 로 저장소를 조회하며,
+ * access token 만료가 가까울 때와 토큰 재발급 때만 확인한다.
+ */
+@Slf4j(topic = "refresh token")
+@Component
+public class RefreshTokenManager {
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final AuthenticationUserService authenticationUserService;
+    private final Duration checkBeforeExpiry;
+
+    public RefreshTokenManager(RefreshTokenStore refreshTokenStore,
+                               AuthenticationUserService authenticationUserService,
+                               @Value("${newsfeed.jwt.refresh-check-before-expiry:5m}") Duration checkBeforeExpiry) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.authenticationUserService = authenticationUserService;
+        this.checkBeforeExpiry = checkBeforeExpiry;
+    }
+
+    public void register(Claims refreshClaims) {
+        refreshTokenStore.save(refreshClaims.getId(), refreshClaims.getSubject(), refreshClaims.getExpiration());
+    }
+
+    // 저장소에 있던 유효한 토큰을 제거했을 때만 true (같은 토큰으로 동시에 호출하면 하나만 true)
+    public boolean revoke(Claims refreshClaims) {
+        return refreshTokenStore.revoke(refreshClaims.getId());
+    }
+
+    // access token 만료가 가까우면 refresh token 도 확인한다
+    public boolean needsRefreshCheck(Claims accessClaims) {
+        return accessClaims.getExpiration().getTime() - System.currentTimeMillis() <= checkBeforeExpiry.toMillis();
+    }
+
+    public boolean isActive(Claims refreshClaims, String refreshTokenValue) {
+        if (refreshTokenStore.isActive(refreshClaims.getId(), refreshClaims.getSubject())) {
+            return true;
+        }
+        // 저장소에 없으면(서버 재시작 등) 사용자 테이블에 저장된 값과 비교 후 다시 등록
+        CachedPrincipal principal = authenticationUserService.reloadPrincipal(refreshClaims.getSubject());
+        if (refreshTokenValue.equals(principal.getRefreshToken())) {
+            register(refreshClaims);
+            return true;
+        }
+        return false;
+    }
+}
@@ -9,7 +9,8 @@ public enum JwtPropertiesEnum {
     INVALID_TOKEN("유효하지 않는 JWT 서명 입니다."),
     EXPIRED_JWT_TOKEN("만료된 JWT token 입니다."),
     UNSUPPORTED_JWT_TOKEN("지원되지 않는 JWT 토큰 입니다."),
-    JWT_CLAIMS_IS_EMPTY("잘못된 JWT 토큰 입니다.");
+    JWT_CLAIMS_IS_EMPTY("잘못된 JWT 토큰 입니다."),
+    REVOKED_JWT_TOKEN("로그아웃된 JWT 토큰 입니다.");
 
     private final String errorMessage;
 
@@ -0,0 +1,43 @@
+package com.sparta.wildcard_newsfeed.security.jwt.store;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, Entry> tokens = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(String jti, String usercode, Date expiresAt) {
+        tokens.put(jti, new Entry(usercode, expiresAt.getTime()));
+    }
+
+    @Override
+    public boolean isActive(String jti, String usercode) {
+        Entry entry = tokens.get(jti);
+        return entry != null
+                && entry.usercode().equals(usercode)
+                && entry.expiresAtMillis() > System.currentTimeMillis();
+    }
+
+    @Override
+    public boolean revoke(String jti) {
+        Entry removed = tokens.remove(jti);
+        return removed != null && removed.expiresAtMillis() > System.currentTimeMillis();
+    }
+
+    // 만료된 토큰 정리
+    @Scheduled(fixedDelayString = "${newsfeed.jwt.refresh-store.purge-interval:600000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        tokens.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+    }
+
+    private record Entry(String usercode, long expiresAtMillis) {
+    }
+}
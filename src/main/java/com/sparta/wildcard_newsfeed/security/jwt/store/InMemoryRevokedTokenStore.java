@@ -0,0 +1,59 @@
+package com.sparta.wildcard_newsfeed.security.jwt.store;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Date;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 만료 시각 구간(bucket)별로 jti 를 나눠 보관한다.
+ * 조회 시에는 토큰의 만료 시각으로 구간을 바로 찾으므로 전체 목록을 훑지 않고,
+ * 정리 시에는 지나간 구간을 통째로 버린다.
+ */
+public class InMemoryRevokedTokenStore implements RevokedTokenStore {
+
+    private final long bucketMillis;
+    private final NavigableMap<Long, Set<Object>> buckets = new ConcurrentSkipListMap<>();
+
+    public InMemoryRevokedTokenStore(long bucketMillis) {
+        this.bucketMillis = bucketMillis;
+    }
+
+    @Override
+    public void revoke(String jti, Date expiresAt) {
+        if (expiresAt.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        buckets.computeIfAbsent(bucketOf(expiresAt), bucket -> ConcurrentHashMap.newKeySet())
+                .add(toKey(jti));
+    }
+
+    @Override
+    public boolean isRevoked(String jti, Date expiresAt) {
+        Set<Object> revoked = buckets.get(bucketOf(expiresAt));
+        return revoked != null && revoked.contains(toKey(jti));
+    }
+
+    // 만료 시각이 지난 구간 정리
+    @Scheduled(fixedDelayString = "${newsfeed.jwt.revoked-store.purge-interval:60000}")
+    public void purgeExpired() {
+        buckets.headMap(System.currentTimeMillis() / bucketMillis).clear();
+    }
+
+    private long bucketOf(Date expiresAt) {
+        return expiresAt.getTime() / bucketMillis;
+    }
+
+    // 발급하는 jti 는 UUID 이므로 문자열 대신 UUID(long 2개)로 보관해 메모리를 줄인다
+    private Object toKey(String jti) {
+        try {
+            return UUID.fromString(jti);
+        } catch (IllegalArgumentException e) {
+            return jti;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.sparta.wildcard_newsfeed.security.jwt.store;
+
+import java.util.Date;
+
+/**
+ * 발급된 refresh token 저장소 (jti 기준)
+ * 기본은 메모리 구현이며, 여러 서버가 공유해야 하면 TokenStoreConfig 의 빈을 같은 인터페이스의 외부 저장소 구현으로 바꾼다.
+ */
+public interface RefreshTokenStore {
+
+    void save(String jti, String usercode, Date expiresAt);
+
+    // 만료/폐기되지 않았고 해당 사용자에게 발급된 토큰인지
+    boolean isActive(String jti, String usercode);
+
+    // 폐기 - 만료되지 않은 토큰을 실제로 제거했을 때만 true (동시에 호출하면 하나만 true)
+    boolean revoke(String jti);
+}
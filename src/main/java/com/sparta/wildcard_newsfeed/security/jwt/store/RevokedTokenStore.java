@@ -0,0 +1,14 @@
+package com.sparta.wildcard_newsfeed.security.jwt.store;
+
+import java.util.Date;
+
+/**
+ * 폐기된 access token 목록 (jti 기준)
+ * 토큰의 원래 만료 시각까지만 보관하며, 만료 후에는 서명 검증 단계에서 거절되므로 지워도 된다.
+ */
+public interface RevokedTokenStore {
+
+    void revoke(String jti, Date expiresAt);
+
+    boolean isRevoked(String jti, Date expiresAt);
+}
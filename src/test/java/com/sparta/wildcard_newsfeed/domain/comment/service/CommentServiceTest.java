@@ -3,6 +3,8 @@ package com.sparta.wildcard_newsfeed.domain.comment.service;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.introspector.BuilderArbitraryIntrospector;
 import com.navercorp.fixturemonkey.jakarta.validation.plugin.JakartaValidationPlugin;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCursor;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCursorResponseDto;
 import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentRequestDto;
 import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto;
 import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
@@ -19,12 +21,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
@@ -294,4 +302,61 @@ class CommentServiceTest {
         // Then
         assertThrows(IllegalArgumentException.class, () -> commentService.deleteComment(postId, commentId, mockUser.getUsercode()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("댓글 목록 조회_성공 - 다음 페이지 커서 반환")
+    public void getCommentPage_hasNext() {
+        // Given
+        long postId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+        List<CommentResponseDto> comments = List.of(
+                new CommentResponseDto(postId, 1L, "comment1", "username", now, now, 0L),
+                new CommentResponseDto(postId, 2L, "comment2", "username", now, now, 0L),
+                new CommentResponseDto(postId, 3L, "comment3", "username", now, now, 0L)
+        );
+        when(commentRepository.findCommentResponsesByPostId(postId, PageRequest.of(0, 3))).thenReturn(comments);
+
+        // When
+        CommentCursorResponseDto result = commentService.getCommentPage(postId, null, 2);
+
+        // Then
+        assertEquals(2, result.getComments().size());
+        assertTrue(result.isHasNext());
+        CommentCursor nextCursor = CommentCursor.decode(result.getNextCursor());
+        assertEquals(2L, nextCursor.getId());
+        assertEquals(now, nextCursor.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회_성공 - 커서 이후 댓글 조회")
+    public void getCommentPage_withCursor() {
+        // Given
+        long postId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+        String cursor = new CommentCursor(now, 2L).encode();
+        when(commentRepository.findCommentResponsesByPostIdAfter(postId, now, 2L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(new CommentResponseDto(postId, 3L, "comment3", "username", now, now, 0L)));
+
+        // When
+        CommentCursorResponseDto result = commentService.getCommentPage(postId, cursor, 2);
+
+        // Then
+        assertEquals(1, result.getComments().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회_실패 - 존재하지 않는 게시물")
+    public void should_ThrowException_when_getCommentPage_NotFoundPost() {
+        // Given
+        long postId = 1L;
+        when(commentRepository.findCommentResponsesByPostId(postId, PageRequest.of(0, 3))).thenReturn(List.of());
+        when(postRepository.existsById(postId)).thenReturn(false);
+
+        // When - Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> commentService.getCommentPage(postId, null, 2));
+        assertEquals("해당 게시물이 존재하지 않습니다.", exception.getMessage());
+    }
+}
@@ -0,0 +1,257 @@
+package com.sparta.wildcard_newsfeed.domain.file.service;
+
+import com.sparta.wildcard_newsfeed.domain.file.entity.MediaObject;
+import com.sparta.wildcard_newsfeed.domain.file.repository.MediaObjectRepository;
+import com.sparta.wildcard_newsfeed.domain.file.storage.ObjectStorage;
+import com.sparta.wildcard_newsfeed.exception.customexception.FileException;
+import com.sparta.wildcard_newsfeed.util.FileUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+class FileServiceTest {
+
+    @Mock
+    private FileUtils fileUtils;
+    @Mock
+    private ObjectStorage objectStorage;
+    @Mock
+    private MediaObjectRepository mediaObjectRepository;
+
+    private FileService fileService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        fileService = new FileService(fileUtils, objectStorage, mediaObjectRepository, transactionTemplate,
+                4, Duration.ofHours(1), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fileService.destroy();
+    }
+
+    @Test
+    @DisplayName("파일 업로드_로컬에 저장하지 않고 내용 해시를 key 로 스트림 전송")
+    void uploadFileToS3_streamsWithoutLocalFile() throws Exception {
+        // given
+        byte[] content = new byte[10 * 1024 * 1024]; // 10MB
+        MockMultipartFile file = new MockMultipartFile("files", "video.mp4", "video/mp4", content);
+        String digest = sha256(content);
+        String storageKey = digest + ".mp4";
+        String url = "https://s3.bucket.url/" + storageKey;
+        AtomicLong transferred = new AtomicLong();
+        when(fileUtils.extractExtension("video.mp4")).thenReturn("mp4");
+        when(mediaObjectRepository.findStorageKeyByDigest(digest)).thenReturn(storageKey);
+        when(mediaObjectRepository.findUrlByDigest(digest)).thenReturn(Optional.empty());
+        when(objectStorage.upload(eq(storageKey), any(InputStream.class), eq((long) content.length), eq("video/mp4")))
+                .thenAnswer(invocation -> {
+                    InputStream inputStream = invocation.getArgument(1);
+                    transferred.set(inputStream.transferTo(OutputStream.nullOutputStream()));
+                    return url;
+                });
+
+        // when
+        long startTime = System.nanoTime();
+        String s3Url = fileService.uploadFileToS3(file);
+        log.info("10MB 해시 + 업로드 {}ms", (System.nanoTime() - startTime) / 1_000_000);
+
+        // then
+        assertEquals(url, s3Url);
+        assertEquals(content.length, transferred.get());
+        verify(mediaObjectRepository).acquire(digest, storageKey, content.length);
+        verify(mediaObjectRepository).markStored(digest, url);
+        verify(fileUtils, never()).getAbsoluteUploadFolder();
+    }
+
+    @Test
+    @DisplayName("파일 업로드_이미 저장된 내용이면 전송하지 않음")
+    void uploadFileToS3_duplicate() throws Exception {
+        // given
+        byte[] content = "test image".getBytes();
+        MockMultipartFile file = new MockMultipartFile("files", "meme.JPG", "image/jpeg", content);
+        String digest = sha256(content);
+        String url = "https://s3.bucket.url/" + digest + ".jpg";
+        when(fileUtils.extractExtension("meme.JPG")).thenReturn("JPG");
+        when(mediaObjectRepository.findUrlByDigest(digest)).thenReturn(Optional.of(url));
+
+        // when
+        String s3Url = fileService.uploadFileToS3(file);
+
+        // then
+        assertEquals(url, s3Url);
+        verify(mediaObjectRepository).acquire(digest, digest + ".jpg", content.length);
+        verify(objectStorage, never()).upload(anyString(), any(InputStream.class), anyLong(), anyString());
+        verify(mediaObjectRepository, never()).markStored(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("파일 업로드_확장자만 다른 같은 내용이 먼저 등록됐으면 그 key 로 전송")
+    void uploadFileToS3_usesRowStorageKey() throws Exception {
+        // given - 같은 내용의 png 업로드가 먼저 행을 추가하고 아직 올리는 중
+        byte[] content = "test image".getBytes();
+        MockMultipartFile file = new MockMultipartFile("files", "test.jpg", "image/jpeg", content);
+        String digest = sha256(content);
+        String rowStorageKey = digest + ".png";
+        String url = "https://s3.bucket.url/" + rowStorageKey;
+        when(fileUtils.extractExtension("test.jpg")).thenReturn("jpg");
+        when(mediaObjectRepository.findStorageKeyByDigest(digest)).thenReturn(rowStorageKey);
+        when(mediaObjectRepository.findUrlByDigest(digest)).thenReturn(Optional.empty());
+        when(objectStorage.upload(eq(rowStorageKey), any(InputStream.class), eq((long) content.length), eq("image/jpeg")))
+                .thenReturn(url);
+
+        // when
+        String s3Url = fileService.uploadFileToS3(file);
+
+        // then - 정리할 때 지우는 key 와 같은 key 에만 저장된다
+        assertEquals(url, s3Url);
+        verify(objectStorage, never()).upload(eq(digest + ".jpg"), any(InputStream.class), anyLong(), anyString());
+        verify(mediaObjectRepository).markStored(digest, url);
+    }
+
+    @Test
+    @DisplayName("파일 업로드_S3 전송 실패하면 참조 수를 되돌림")
+    void uploadFileToS3_fail() throws Exception {
+        // given
+        byte[] content = "test image".getBytes();
+        MockMultipartFile file = new MockMultipartFile("files", "test.jpg", "image/jpeg", content);
+        String digest = sha256(content);
+        when(fileUtils.extractExtension("test.jpg")).thenReturn("jpg");
+        when(mediaObjectRepository.findStorageKeyByDigest(digest)).thenReturn(digest + ".jpg");
+        when(mediaObjectRepository.findUrlByDigest(digest)).thenReturn(Optional.empty());
+        when(objectStorage.upload(anyString(), any(InputStream.class), anyLong(), anyString()))
+                .thenThrow(new IllegalStateException("S3 오류"));
+
+        // when - then
+        assertThrows(FileException.class, () -> fileService.uploadFileToS3(file));
+        verify(mediaObjectRepository).releaseByDigest(eq(digest), any(LocalDateTime.class));
+        verify(mediaObjectRepository, never()).markStored(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("여러 파일 업로드_동시에 전송하고 요청 순서대로 반환")
+    void uploadFilesToS3_parallel() throws Exception {
+        // given
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            files.add(new MockMultipartFile("files", "test" + i + ".jpg", "image/jpeg", ("image" + i).getBytes()));
+        }
+        when(fileUtils.extractExtension(anyString())).thenReturn("jpg");
+        when(mediaObjectRepository.findStorageKeyByDigest(anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(0) + ".jpg");
+        when(mediaObjectRepository.findUrlByDigest(anyString())).thenReturn(Optional.empty());
+        long uploadMillis = 100;
+        when(objectStorage.upload(anyString(), any(InputStream.class), anyLong(), anyString()))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(uploadMillis); // S3 왕복 시간 대신
+                    return "https://s3.bucket.url/" + invocation.getArgument(0);
+                });
+
+        // when
+        long startTime = System.nanoTime();
+        List<String> s3Urls = fileService.uploadFilesToS3(files);
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        log.info("파일 {}개 업로드 {}ms (순차 업로드 시 약 {}ms)", files.size(), elapsedMillis, uploadMillis * files.size());
+
+        // then
+        for (int i = 0; i < 5; i++) {
+            assertEquals("https://s3.bucket.url/" + sha256(("image" + i).getBytes()) + ".jpg", s3Urls.get(i));
+        }
+        assertTrue(elapsedMillis < uploadMillis * files.size());
+    }
+
+    @Test
+    @DisplayName("여러 파일 업로드_하나라도 실패하면 예외")
+    void uploadFilesToS3_fail() throws Exception {
+        // given
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("files", "test0.jpg", "image/jpeg", "image0".getBytes()),
+                new MockMultipartFile("files", "test1.jpg", "image/jpeg", "image1".getBytes()));
+        when(fileUtils.extractExtension(anyString())).thenReturn("jpg");
+        when(mediaObjectRepository.findStorageKeyByDigest(anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(0) + ".jpg");
+        when(mediaObjectRepository.findUrlByDigest(anyString())).thenReturn(Optional.empty());
+        when(objectStorage.upload(anyString(), any(InputStream.class), anyLong(), anyString()))
+                .thenReturn("https://s3.bucket.url/uuid.jpg")
+                .thenThrow(new IllegalStateException("S3 오류"));
+
+        // when - then
+        assertThrows(FileException.class, () -> fileService.uploadFilesToS3(files));
+    }
+
+    @Test
+    @DisplayName("파일 참조 해제_저장되지 않은 미디어는 건너뜀")
+    void releaseFiles() {
+        // given
+        String url = "https://s3.bucket.url/digest.jpg";
+
+        // when
+        fileService.releaseFiles(Arrays.asList(url, null));
+
+        // then
+        verify(mediaObjectRepository, times(1)).releaseByUrl(eq(url), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("참조 없는 파일 정리_저장소 파일과 행을 함께 삭제")
+    void purgeUnreferencedFiles() throws Exception {
+        // given
+        MediaObject mediaObject = mock(MediaObject.class);
+        when(mediaObject.getStorageKey()).thenReturn("digest.jpg");
+        when(mediaObjectRepository.findUnreferencedIds(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(mediaObjectRepository.findUnreferencedForUpdate(1L)).thenReturn(Optional.of(mediaObject));
+        // 그 사이 다시 참조된 파일
+        when(mediaObjectRepository.findUnreferencedForUpdate(2L)).thenReturn(Optional.empty());
+
+        // when
+        fileService.purgeUnreferencedFiles();
+
+        // then
+        verify(objectStorage).delete("digest.jpg");
+        verify(mediaObjectRepository).delete(mediaObject);
+        verify(mediaObjectRepository, times(1)).delete(any(MediaObject.class));
+    }
+
+    private String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
@@ -0,0 +1,87 @@
+package com.sparta.wildcard_newsfeed.domain.file.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Slf4j
+class LocalObjectStorageTest {
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStorage objectStorage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        objectStorage = new LocalObjectStorage(root, "http://localhost:8080/media");
+    }
+
+    @Test
+    @DisplayName("로컬 저장소_업로드")
+    void upload() throws Exception {
+        // given
+        byte[] content = "test image".getBytes();
+
+        // when
+        String url = objectStorage.upload("uuid.jpg", new ByteArrayInputStream(content), content.length, "image/jpeg");
+
+        // then
+        assertEquals("http://localhost:8080/media/uuid.jpg", url);
+        assertArrayEquals(content, Files.readAllBytes(root.resolve("uuid.jpg")));
+    }
+
+    @Test
+    @DisplayName("로컬 저장소_크기가 다르면 저장하지 않음")
+    void upload_sizeMismatch() {
+        // given
+        byte[] content = "test image".getBytes();
+
+        // when - then
+        assertThrows(IOException.class,
+                () -> objectStorage.upload("uuid.jpg", new ByteArrayInputStream(content), content.length + 1, "image/jpeg"));
+        assertFalse(Files.exists(root.resolve("uuid.jpg")));
+    }
+
+    @Test
+    @DisplayName("로컬 저장소_저장소 밖 경로는 거절")
+    void upload_pathTraversal() {
+        // given
+        byte[] content = "test image".getBytes();
+
+        // when - then
+        assertThrows(IllegalArgumentException.class,
+                () -> objectStorage.upload("../uuid.jpg", new ByteArrayInputStream(content), content.length, "image/jpeg"));
+    }
+
+    @Test
+    @DisplayName("로컬 저장소_업로드 처리량")
+    void upload_throughput() throws Exception {
+        // given
+        byte[] content = new byte[1024 * 1024]; // 1MB
+        int iterations = 50;
+
+        // when
+        long startTime = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            objectStorage.upload("uuid" + i + ".jpg", new ByteArrayInputStream(content), content.length, "image/jpeg");
+        }
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+
+        // then
+        log.info("로컬 저장소 1MB x {}개, {} MB/s", iterations, iterations / elapsedSeconds);
+        assertEquals(content.length, Files.size(root.resolve("uuid0.jpg")));
+    }
+}
@@ -0,0 +1,199 @@
+package com.sparta.wildcard_newsfeed.domain.liked.service;
+
+import com.sparta.wildcard_newsfeed.config.CacheConfig;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikeCommand;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LikeWriteBehindServiceTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String UPDATE_POST_LIKE_COUNT = "update post set like_count = like_count + ? where id = ?";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private Cache cache;
+    @Mock
+    private LikedMembershipService likedMembershipService;
+
+    private LikeWriteBehindService likeWriteBehindService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        likeWriteBehindService = new LikeWriteBehindService(jdbcTemplate, transactionTemplate, cacheManager,
+                likedMembershipService, true, 100, MAX_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("일괄 반영_커밋 후 반영 대기 상태를 지우고 게시물 캐시를 비움")
+    void flush_success() {
+        // given
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any())).thenReturn(new int[][]{{1}});
+        when(cacheManager.getCache(anyString())).thenReturn(cache);
+        likeWriteBehindService.submit(new LikeCommand(1L, "user1", 10L, ContentsTypeEnum.POST, true));
+
+        // when
+        likeWriteBehindService.flush();
+
+        // then
+        verify(jdbcTemplate).update(UPDATE_POST_LIKE_COUNT, 1L, 10L);
+        assertNull(likeWriteBehindService.getPendingLiked("user1", 10L, ContentsTypeEnum.POST));
+        verify(cacheManager).getCache(CacheConfig.POST_DETAIL);
+        verify(cache, times(2)).evict(10L);
+        verify(likedMembershipService).invalidate("user1");
+    }
+
+    @Test
+    @DisplayName("일괄 반영_추가 후 취소는 DB 에 쓰지 않음")
+    void flush_likeThenUnlike() {
+        // given
+        likeWriteBehindService.submit(new LikeCommand(1L, "user1", 10L, ContentsTypeEnum.POST, true));
+        likeWriteBehindService.submit(new LikeCommand(1L, "user1", 10L, ContentsTypeEnum.POST, false));
+
+        // when
+        likeWriteBehindService.flush();
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), any());
+        assertNull(likeWriteBehindService.getPendingLiked("user1", 10L, ContentsTypeEnum.POST));
+    }
+
+    @Test
+    @DisplayName("일괄 반영_실패하면 반영 대기 상태를 유지하고 다음 주기에 재시도")
+    void flush_retry() {
+        // given
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any()))
+                .thenThrow(new QueryTimeoutException("DB 오류"))
+                .thenReturn(new int[][]{{1}});
+        when(cacheManager.getCache(anyString())).thenReturn(cache);
+        likeWriteBehindService.submit(new LikeCommand(1L, "user1", 10L, ContentsTypeEnum.POST, true));
+
+        // when - then
+        likeWriteBehindService.flush();
+        assertEquals(Boolean.TRUE, likeWriteBehindService.getPendingLiked("user1", 10L, ContentsTypeEnum.POST));
+        verify(cache, never()).evict(any());
+        verify(likedMembershipService, never()).invalidate(any());
+
+        likeWriteBehindService.flush();
+        verify(jdbcTemplate, times(1)).update(UPDATE_POST_LIKE_COUNT, 1L, 10L);
+        assertNull(likeWriteBehindService.getPendingLiked("user1", 10L, ContentsTypeEnum.POST));
+        verify(cache, times(2)).evict(10L);
+    }
+
+    @Test
+    @DisplayName("일괄 반영_최대 횟수까지 실패하고 한 건씩 반영해도 실패하면 요청 폐기")
+    void flush_giveUp() {
+        // given
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any()))
+                .thenThrow(new QueryTimeoutException("DB 오류"));
+        likeWriteBehindService.submit(new LikeCommand(1L, "user1", 10L, ContentsTypeEnum.POST, true));
+
+        // when
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            likeWriteBehindService.flush();
+        }
+        likeWriteBehindService.flush();
+
+        // then - 일괄 반영 MAX_ATTEMPTS 회 + 한 건씩 1 회
+        verify(jdbcTemplate, times(MAX_ATTEMPTS + 1)).batchUpdate(anyString(), anyList(), anyInt(), any());
+        assertNull(likeWriteBehindService.getPendingLiked("user1", 10L, ContentsTypeEnum.POST));
+    }
+
+    @Test
+    @DisplayName("일괄 반영_최대 횟수까지 실패하면 한 건씩 반영해 문제가 되는 요청만 폐기")
+    void flush_giveUp_appliesOneByOne() {
+        // given - 게시물 99 의 요청이 섞이면 batch 전체가 실패
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any())).thenAnswer(invocation -> {
+            List<LikeCommand> commands = invocation.getArgument(1);
+            if (commands.stream().anyMatch(command -> command.getContentsId() == 99L)) {
+                throw new DataIntegrityViolationException("없는 게시물");
+            }
+            return new int[][]{{1}};
+        });
+        when(cacheManager.getCache(anyString())).thenReturn(cache);
+        likeWriteBehindService.submit(new LikeCommand(1L, "user1", 10L, ContentsTypeEnum.POST, true));
+        likeWriteBehindService.submit(new LikeCommand(1L, "user1", 99L, ContentsTypeEnum.POST, true));
+
+        // when
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            likeWriteBehindService.flush();
+        }
+
+        // then
+        verify(jdbcTemplate, times(1)).update(UPDATE_POST_LIKE_COUNT, 1L, 10L);
+        verify(jdbcTemplate, never()).update(UPDATE_POST_LIKE_COUNT, 1L, 99L);
+        verify(cache, times(2)).evict(10L);
+        assertNull(likeWriteBehindService.getPendingLiked("user1", 10L, ContentsTypeEnum.POST));
+        assertNull(likeWriteBehindService.getPendingLiked("user1", 99L, ContentsTypeEnum.POST));
+    }
+
+    @Test
+    @DisplayName("일괄 반영_드라이버가 행 수를 알려주지 않으면 좋아요 수를 다시 셈")
+    void flush_successNoInfo_recounts() {
+        // given - rewriteBatchedStatements=true 이면 insert 결과가 SUCCESS_NO_INFO
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any()))
+                .thenReturn(new int[][]{{Statement.SUCCESS_NO_INFO}});
+        when(cacheManager.getCache(anyString())).thenReturn(cache);
+        likeWriteBehindService.submit(new LikeCommand(1L, "user1", 10L, ContentsTypeEnum.POST, true));
+
+        // when
+        likeWriteBehindService.flush();
+
+        // then - 중복으로 무시됐을 수 있으므로 1 을 더하지 않는다
+        verify(jdbcTemplate, never()).update(UPDATE_POST_LIKE_COUNT, 1L, 10L);
+        verify(jdbcTemplate).update(startsWith("update post set like_count = (select count(*) from liked"),
+                eq(10L), eq("POST"), eq(10L));
+        verify(cache, times(2)).evict(10L);
+    }
+
+    @Test
+    @DisplayName("일괄 반영_댓글 좋아요는 댓글이 달린 게시물 캐시를 비움")
+    void flush_commentLike() {
+        // given
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any())).thenReturn(new int[][]{{1}});
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class)))
+                .thenReturn(List.of(10L));
+        when(cacheManager.getCache(anyString())).thenReturn(cache);
+        likeWriteBehindService.submit(new LikeCommand(1L, "user1", 100L, ContentsTypeEnum.COMMENT, true));
+
+        // when
+        likeWriteBehindService.flush();
+
+        // then
+        verify(cache, times(2)).evict(10L);
+    }
+}
@@ -0,0 +1,79 @@
+package com.sparta.wildcard_newsfeed.domain.liked.service;
+
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.liked.repository.LikedRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LikedMembershipServiceTest {
+
+    private static final String USERCODE = "testUser1234";
+
+    @Mock
+    private LikedRepository likedRepository;
+
+    @Test
+    @DisplayName("좋아요 여부_사용자당 한 번만 불러옴")
+    void getLikedStatus_loadOnce() {
+        // given
+        LikedMembershipService likedMembershipService = new LikedMembershipService(likedRepository, 100, Duration.ofMinutes(10));
+        when(likedRepository.findContentsIdsByUsercode(USERCODE, ContentsTypeEnum.POST)).thenReturn(List.of(10L));
+
+        // when
+        likedMembershipService.getLikedStatus(USERCODE, List.of(10L));
+        Map<Long, Boolean> status = likedMembershipService.getLikedStatus(USERCODE, List.of(10L, 20L));
+
+        // then
+        assertEquals(Map.of(10L, true, 20L, false), status);
+        verify(likedRepository, times(1)).findContentsIdsByUsercode(USERCODE, ContentsTypeEnum.POST);
+    }
+
+    @Test
+    @DisplayName("좋아요 여부_변경되면 다시 불러옴")
+    void getLikedStatus_reloadAfterInvalidate() {
+        // given
+        LikedMembershipService likedMembershipService = new LikedMembershipService(likedRepository, 100, Duration.ofMinutes(10));
+        when(likedRepository.findContentsIdsByUsercode(USERCODE, ContentsTypeEnum.POST))
+                .thenReturn(List.of())
+                .thenReturn(List.of(10L));
+        likedMembershipService.getLikedStatus(USERCODE, List.of(10L));
+
+        // when
+        likedMembershipService.invalidate(USERCODE);
+        Map<Long, Boolean> status = likedMembershipService.getLikedStatus(USERCODE, List.of(10L));
+
+        // then
+        assertEquals(Map.of(10L, true), status);
+    }
+
+    @Test
+    @DisplayName("좋아요 여부_일정 시간이 지나면 다시 불러옴")
+    void getLikedStatus_expireAfterWrite() throws InterruptedException {
+        // given
+        LikedMembershipService likedMembershipService = new LikedMembershipService(likedRepository, 100, Duration.ofMillis(50));
+        when(likedRepository.findContentsIdsByUsercode(USERCODE, ContentsTypeEnum.POST))
+                .thenReturn(List.of())
+                .thenReturn(List.of(10L));
+        likedMembershipService.getLikedStatus(USERCODE, List.of(10L));
+
+        // when
+        Thread.sleep(100);
+        Map<Long, Boolean> status = likedMembershipService.getLikedStatus(USERCODE, List.of(10L));
+
+        // then
+        assertEquals(Map.of(10L, true), status);
+    }
+}
@@ -0,0 +1,157 @@
+package com.sparta.wildcard_newsfeed.domain.liked.service;
+
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedRequestDto;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.liked.repository.LikedRepository;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.domain.user.entity.UserRoleEnum;
+import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class LikedServiceConcurrencyTest {
+
+    private static final int LIKE_COUNT = 2000;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private LikedService likedService;
+    @Autowired
+    private LikedRepository likedRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        likedRepository.deleteAllInBatch();
+        postRepository.deleteAll();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("좋아요 동시 요청_갱신 손실 없이 정확한 좋아요 수")
+    void addLike_concurrently() throws InterruptedException {
+        // given
+        User writer = userRepository.save(createUser("writer"));
+        Post post = postRepository.save(new Post(PostRequestDto.builder()
+                .title("title")
+                .content("content")
+                .build(), writer));
+
+        List<User> likers = new ArrayList<>();
+        for (int i = 0; i < LIKE_COUNT; i++) {
+            likers.add(createUser("liker" + i));
+        }
+        userRepository.saveAll(likers);
+
+        LikedRequestDto requestDto = new LikedRequestDto();
+        ReflectionTestUtils.setField(requestDto, "contentsId", post.getId());
+        ReflectionTestUtils.setField(requestDto, "contentsType", ContentsTypeEnum.POST);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(LIKE_COUNT);
+        AtomicInteger failCount = new AtomicInteger();
+
+        // when
+        long startTime = System.nanoTime();
+        for (User liker : likers) {
+            AuthenticationUser loginUser = new AuthenticationUser(liker.getUsercode(), liker.getPassword());
+            executorService.submit(() -> {
+                try {
+                    likedService.addLike(requestDto, loginUser);
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        log.info("좋아요 {}건 처리 {}초, 초당 {}건", LIKE_COUNT, elapsedSeconds, (long) (LIKE_COUNT / elapsedSeconds));
+
+        // then
+        Post result = postRepository.findById(post.getId()).orElseThrow();
+        assertEquals(0, failCount.get());
+        assertEquals(LIKE_COUNT, result.getLikeCount().longValue());
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 좋아요 동시 요청_한 건만 저장")
+    void addLike_duplicateConcurrently() throws InterruptedException {
+        // given
+        User writer = userRepository.save(createUser("writer"));
+        User liker = userRepository.save(createUser("liker"));
+        Post post = postRepository.save(new Post(PostRequestDto.builder()
+                .title("title")
+                .content("content")
+                .build(), writer));
+
+        LikedRequestDto requestDto = new LikedRequestDto();
+        ReflectionTestUtils.setField(requestDto, "contentsId", post.getId());
+        ReflectionTestUtils.setField(requestDto, "contentsType", ContentsTypeEnum.POST);
+        AuthenticationUser loginUser = new AuthenticationUser(liker.getUsercode(), liker.getPassword());
+
+        int requestCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    likedService.addLike(requestDto, loginUser);
+                    successCount.incrementAndGet();
+                } catch (Exception ignored) {
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+
+        // then
+        Post result = postRepository.findById(post.getId()).orElseThrow();
+        assertEquals(1, successCount.get());
+        assertEquals(1L, likedRepository.count());
+        assertEquals(1L, result.getLikeCount().longValue());
+    }
+
+    private User createUser(String usercode) {
+        return User.builder()
+                .usercode(usercode)
+                .name(usercode)
+                .password("currentPWD12@@")
+                .email(usercode + "@email.com")
+                .userRoleEnum(UserRoleEnum.USER)
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.sparta.wildcard_newsfeed.domain.liked.service;
+
+import com.sparta.wildcard_newsfeed.domain.comment.repository.CommentRepository;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedRequestDto;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedResponseDto;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.Liked;
+import com.sparta.wildcard_newsfeed.domain.liked.repository.LikedRepository;
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.domain.user.entity.UserRoleEnum;
+import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LikedServiceTest {
+
+    private static final String INSERT_LIKED =
+            "insert ignore into liked (user_id, contents_id, content_type, created_at, updated_at) values (?, ?, ?, ?, ?)";
+    private static final String DELETE_LIKED =
+            "delete from liked where user_id = ? and contents_id = ? and content_type = ?";
+
+    @Mock
+    private LikedRepository likedRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private LikedMembershipService likedMembershipService;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private LikeWriteBehindService likeWriteBehindService;
+    private LikedService likedService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        likeWriteBehindService = new LikeWriteBehindService(jdbcTemplate, transactionTemplate, cacheManager,
+                likedMembershipService, true, 100, 3);
+        likedService = new LikedService(likedRepository, userRepository, postRepository, commentRepository,
+                likeWriteBehindService, likedMembershipService, cacheManager);
+    }
+
+    @Test
+    @DisplayName("쓰기 지연 좋아요_이미 저장된 좋아요에 추가 후 취소하면 취소가 반영됨")
+    void writeBehind_persistedLikeThenLikeThenUnlike() {
+        // given
+        User liker = createUser();
+        AuthenticationUser loginUser = new AuthenticationUser(liker.getUsercode(), liker.getPassword());
+        LikedRequestDto requestDto = createRequest(10L);
+
+        when(userRepository.findByUsercode(liker.getUsercode())).thenReturn(Optional.of(liker));
+        when(postRepository.findUserIdById(10L)).thenReturn(Optional.of(2L));
+        // DB 에 이미 반영된 좋아요
+        when(likedRepository.findByUserIdAndContentsIdAndContentsType(1L, 10L, ContentsTypeEnum.POST))
+                .thenReturn(Optional.of(mock(Liked.class)));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any())).thenReturn(new int[][]{{1}});
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> likedService.addLike(requestDto, loginUser));
+        likedService.removeLike(requestDto, loginUser);
+        likeWriteBehindService.flush();
+
+        // then
+        assertEquals("이미 좋아요를 눌렀습니다.", exception.getMessage());
+        verify(jdbcTemplate).batchUpdate(eq(DELETE_LIKED), anyList(), anyInt(), any());
+        verify(jdbcTemplate, never()).batchUpdate(eq(INSERT_LIKED), anyList(), anyInt(), any());
+        verify(jdbcTemplate).update("update post set like_count = like_count + ? where id = ?", -1L, 10L);
+        verify(likedMembershipService).invalidate(liker.getUsercode());
+    }
+
+    @Test
+    @DisplayName("쓰기 지연 좋아요 여부 조회_반영 전 요청으로 덮어씀")
+    void writeBehind_getLikedStatus_pendingOverlay() {
+        // given
+        User liker = createUser();
+        AuthenticationUser loginUser = new AuthenticationUser(liker.getUsercode(), liker.getPassword());
+        when(userRepository.findByUsercode(liker.getUsercode())).thenReturn(Optional.of(liker));
+        when(postRepository.findUserIdById(10L)).thenReturn(Optional.of(2L));
+        when(likedRepository.findByUserIdAndContentsIdAndContentsType(1L, 10L, ContentsTypeEnum.POST))
+                .thenReturn(Optional.empty());
+        // 불러온 좋아요 여부에는 아직 반영되지 않은 좋아요가 없다
+        when(likedMembershipService.getLikedStatus(liker.getUsercode(), List.of(10L, 20L)))
+                .thenReturn(new LinkedHashMap<>(Map.of(10L, false, 20L, true)));
+        likedService.addLike(createRequest(10L), loginUser);
+
+        // when
+        Map<Long, Boolean> status = likedService.getLikedStatus(loginUser, List.of(10L, 20L));
+
+        // then
+        assertEquals(Boolean.TRUE, status.get(10L));
+        assertEquals(Boolean.TRUE, status.get(20L));
+    }
+
+    @Test
+    @DisplayName("좋아요 추가_바로 저장하면 생성된 좋아요 id 를 응답")
+    void addLike_returnsLikeId() {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        LikedService syncLikedService = new LikedService(likedRepository, userRepository, postRepository, commentRepository,
+                new LikeWriteBehindService(jdbcTemplate, transactionTemplate, cacheManager, likedMembershipService, false, 100, 3),
+                likedMembershipService, cacheManager);
+        User liker = createUser();
+        AuthenticationUser loginUser = new AuthenticationUser(liker.getUsercode(), liker.getPassword());
+
+        when(userRepository.findByUsercode(liker.getUsercode())).thenReturn(Optional.of(liker));
+        when(postRepository.findUserIdById(10L)).thenReturn(Optional.of(2L));
+        when(likedRepository.insertIgnore(1L, 10L, "POST")).thenReturn(1);
+        when(likedRepository.findLastInsertId()).thenReturn(100L);
+        when(postRepository.increaseLikeCount(10L, 1L)).thenReturn(1);
+
+        // when
+        LikedResponseDto result = syncLikedService.addLike(createRequest(10L), loginUser);
+
+        // then
+        assertEquals(100L, result.getLikeId());
+        assertEquals(10L, result.getContentsId());
+    }
+
+    private User createUser() {
+        User user = User.builder()
+                .usercode("testUser1234")
+                .name("testUsername")
+                .password("currentPWD12@@")
+                .email("email")
+                .userRoleEnum(UserRoleEnum.USER)
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
+
+    private LikedRequestDto createRequest(Long contentsId) {
+        LikedRequestDto requestDto = new LikedRequestDto();
+        ReflectionTestUtils.setField(requestDto, "contentsId", contentsId);
+        ReflectionTestUtils.setField(requestDto, "contentsType", ContentsTypeEnum.POST);
+        return requestDto;
+    }
+}
@@ -6,7 +6,7 @@ import com.navercorp.fixturemonkey.api.introspector.BuilderArbitraryIntrospector
 import com.navercorp.fixturemonkey.jakarta.validation.plugin.JakartaValidationPlugin;
 import com.sparta.wildcard_newsfeed.config.WebSecurityConfig;
 import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto;
-import com.sparta.wildcard_newsfeed.domain.comment.service.CommentService;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.PostWithCommentsResponseDto;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto;
 import com.sparta.wildcard_newsfeed.domain.post.service.PostService;
@@ -37,10 +37,13 @@ import java.security.Principal;
 import java.util.List;
 
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -63,9 +66,6 @@ class PostControllerTest {
     @MockBean
     private PostService postService;
 
-    @MockBean
-    private CommentService commentService;
-
     @Autowired
     private ObjectMapper objectMapper;
     private static final FixtureMonkey sut = FixtureMonkey.builder()
@@ -192,8 +192,9 @@ class PostControllerTest {
         PostResponseDto postResponseDto = sut.giveMeOne(PostResponseDto.class);
         List<CommentResponseDto> commentResponseDtoList = sut.giveMe(CommentResponseDto.class, 2);
 
-        when(postService.findById(postId)).thenReturn(postResponseDto);
-        when(commentService.findAllCommentsByPostId(postId)).thenReturn(commentResponseDtoList);
+        PostWithCommentsResponseDto response = new PostWithCommentsResponseDto(postResponseDto, commentResponseDtoList);
+        response.setEtag("version1");
+        when(postService.findPostWithComments(postId)).thenReturn(response);
 
         // when
         ResultActions resultActions = mockMvc.perform(get("/api/v1/post/{postId}", postId)
@@ -202,9 +203,30 @@ class PostControllerTest {
         // then
         resultActions
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"version1\""))
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("게시글 단일 조회_변경 없음 304")
+    void findById_notModified() throws Exception {
+        // given
+        Long postId = 1L;
+        PostWithCommentsResponseDto response = new PostWithCommentsResponseDto(
+                sut.giveMeOne(PostResponseDto.class), sut.giveMe(CommentResponseDto.class, 2));
+        response.setEtag("version1");
+        when(postService.findPostWithComments(postId)).thenReturn(response);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/post/{postId}", postId)
+                .header("If-None-Match", "\"version1\""));
+
+        // then
+        resultActions
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Test
     @DisplayName("게시글 수정_성공")
     void updatePost_OK() throws Exception {
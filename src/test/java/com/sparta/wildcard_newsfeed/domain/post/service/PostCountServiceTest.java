@@ -0,0 +1,97 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostCountServiceTest {
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private PostCountService postCountService;
+
+    @Test
+    @DisplayName("전체 게시물 수_최초 한 번만 COUNT 조회")
+    public void getTotalCount_loadOnce() {
+        // given
+        when(postRepository.count()).thenReturn(10L);
+
+        // when
+        postCountService.getTotalCount();
+        long result = postCountService.getTotalCount();
+
+        // then
+        assertEquals(10L, result);
+        verify(postRepository, times(1)).count();
+    }
+
+    @Test
+    @DisplayName("전체 게시물 수_등록/삭제 시 증감 반영")
+    public void increaseAndDecrease() {
+        // given
+        when(postRepository.count()).thenReturn(10L);
+        postCountService.getTotalCount();
+
+        // when
+        postCountService.increase();
+        postCountService.increase();
+        postCountService.decrease();
+
+        // then
+        assertEquals(11L, postCountService.getTotalCount());
+    }
+
+    @Test
+    @DisplayName("전체 게시물 수_로드 전 증감은 무시하고 조회 시 DB 값 사용")
+    public void increaseBeforeLoad() {
+        // given
+        when(postRepository.count()).thenReturn(3L);
+
+        // when
+        postCountService.increase();
+
+        // then
+        assertEquals(3L, postCountService.getTotalCount());
+    }
+
+    @Test
+    @DisplayName("전체 게시물 수_COUNT 하는 동안 커밋된 증감도 반영")
+    public void increaseWhileLoading() {
+        // given - COUNT 결과를 돌려주기 전에 다른 요청의 등록이 커밋됨
+        when(postRepository.count()).thenAnswer(invocation -> {
+            postCountService.increase();
+            return 3L;
+        });
+
+        // when
+        long result = postCountService.getTotalCount();
+
+        // then
+        assertEquals(4L, result);
+    }
+
+    @Test
+    @DisplayName("전체 게시물 수_주기적으로 다시 COUNT")
+    public void refresh() {
+        // given
+        when(postRepository.count()).thenReturn(10L, 7L);
+        postCountService.getTotalCount();
+        postCountService.increase();
+
+        // when
+        postCountService.refresh();
+
+        // then
+        assertEquals(7L, postCountService.getTotalCount());
+        verify(postRepository, times(2)).count();
+    }
+}
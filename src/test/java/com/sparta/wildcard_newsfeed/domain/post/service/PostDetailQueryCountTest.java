@@ -0,0 +1,126 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.domain.comment.dto.PostWithCommentsResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
+import com.sparta.wildcard_newsfeed.domain.comment.repository.CommentRepository;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.post.entity.PostMedia;
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostMediaRepository;
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.domain.user.entity.UserRoleEnum;
+import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class PostDetailQueryCountTest {
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostMediaRepository postMediaRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAllInBatch();
+        postMediaRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    @DisplayName("게시글 + 댓글 조회_댓글 수와 관계없이 쿼리 3번")
+    void findPostWithComments_queryCount() {
+        // given
+        User writer = userRepository.save(createUser("writer"));
+        Post post = postRepository.save(new Post(PostRequestDto.builder()
+                .title("title")
+                .content("content")
+                .build(), writer));
+
+        PostMedia postMedia = new PostMedia();
+        postMedia.setPost(post);
+        postMedia.setUrl("url");
+        postMedia.setType("png");
+        postMediaRepository.save(postMedia);
+
+        int commentCount = 20;
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < commentCount; i++) {
+            User commenter = userRepository.save(createUser("commenter" + i));
+            comments.add(new Comment("comment" + i, commenter, post));
+        }
+        commentRepository.saveAll(comments);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        PostWithCommentsResponseDto result = postService.findPostWithComments(post.getId());
+
+        // then
+        assertEquals(commentCount, result.getComments().size());
+        assertEquals(1, result.getPost().getS3Urls().size());
+        // 게시물+작성자, 첨부파일, 댓글+작성자
+        assertEquals(3L, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("게시글 + 댓글 조회_두 번째 조회는 캐시에서 응답")
+    void findPostWithComments_cached() {
+        // given
+        User writer = userRepository.save(createUser("writer"));
+        Post post = postRepository.save(new Post(PostRequestDto.builder()
+                .title("title")
+                .content("content")
+                .build(), writer));
+        postService.findPostWithComments(post.getId());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        PostWithCommentsResponseDto result = postService.findPostWithComments(post.getId());
+
+        // then
+        assertEquals("title", result.getPost().getTitle());
+        assertEquals(0L, statistics.getPrepareStatementCount());
+    }
+
+    private User createUser(String usercode) {
+        return User.builder()
+                .usercode(usercode)
+                .name(usercode)
+                .password("currentPWD12@@")
+                .email(usercode + "@email.com")
+                .userRoleEnum(UserRoleEnum.USER)
+                .build();
+    }
+}
@@ -0,0 +1,243 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.domain.file.service.FileService;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PendingMediaDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.MediaStatusEnum;
+import com.sparta.wildcard_newsfeed.domain.post.entity.PostMedia;
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostMediaRepository;
+import com.sparta.wildcard_newsfeed.exception.customexception.FileException;
+import com.sparta.wildcard_newsfeed.util.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostMediaOutboxServiceTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String NODE_ID = "node1";
+
+    @Mock
+    private PostMediaRepository postMediaRepository;
+    @Mock
+    private FileService fileService;
+    @Mock
+    private FileUtils fileUtils;
+    @Mock
+    private CacheManager cacheManager;
+
+    @TempDir
+    Path stagingDir;
+
+    private PostMediaOutboxService postMediaOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        postMediaOutboxService = new PostMediaOutboxService(postMediaRepository, fileService, fileUtils,
+                transactionTemplate, cacheManager, true, stagingDir.toString(), NODE_ID, 2,
+                MAX_ATTEMPTS, Duration.ofSeconds(2), Duration.ofMinutes(5), 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        postMediaOutboxService.destroy();
+    }
+
+    @Test
+    @DisplayName("업로드 대기 등록_파일을 대기 폴더로 옮김")
+    void stage() throws Exception {
+        // given
+        byte[] content = "video".getBytes();
+        List<MultipartFile> files = List.of(new MockMultipartFile("files", "test.mp4", "video/mp4", content));
+        when(fileUtils.createUuidFileName("test.mp4")).thenReturn("uuid.mp4");
+
+        // when
+        List<String> storageKeys = postMediaOutboxService.stage(files);
+
+        // then
+        assertEquals(List.of("uuid.mp4"), storageKeys);
+        assertArrayEquals(content, Files.readAllBytes(stagingDir.resolve("uuid.mp4")));
+        verify(fileService, never()).uploadFileToS3(any(Path.class));
+    }
+
+    @Test
+    @DisplayName("대기 파일 정리_업로드 전인 미디어의 대기 파일만 삭제")
+    void discardPending() throws Exception {
+        // given
+        Files.write(stagingDir.resolve("uuid.mp4"), "video".getBytes());
+        Files.write(stagingDir.resolve("ready.mp4"), "video".getBytes());
+        PostMedia readyMedia = PostMedia.pending("ready.mp4", "mp4", NODE_ID);
+        readyMedia.setStatus(MediaStatusEnum.READY);
+
+        // when
+        postMediaOutboxService.discardPending(List.of(PostMedia.pending("uuid.mp4", "mp4", NODE_ID), readyMedia));
+
+        // then
+        assertFalse(Files.exists(stagingDir.resolve("uuid.mp4")));
+        assertTrue(Files.exists(stagingDir.resolve("ready.mp4")));
+    }
+
+    @Test
+    @DisplayName("대기 파일 정리_트랜잭션 안이면 커밋된 뒤에 삭제")
+    void discardPending_afterCommit() throws Exception {
+        // given
+        Files.write(stagingDir.resolve("uuid.mp4"), "video".getBytes());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            postMediaOutboxService.discardPending(List.of(PostMedia.pending("uuid.mp4", "mp4", NODE_ID)));
+
+            // then
+            assertTrue(Files.exists(stagingDir.resolve("uuid.mp4")));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertFalse(Files.exists(stagingDir.resolve("uuid.mp4")));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("업로드 작업_성공하면 READY 로 바꾸고 대기 파일 삭제")
+    void process_success() throws Exception {
+        // given
+        Files.write(stagingDir.resolve("uuid.mp4"), "video".getBytes());
+        when(fileService.uploadFileToS3(stagingDir.resolve("uuid.mp4"))).thenReturn("https://s3.bucket.url/digest.mp4");
+        when(postMediaRepository.markReady(eq(1L), eq("https://s3.bucket.url/digest.mp4"), any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        postMediaOutboxService.process(1L, 10L, "uuid.mp4", 1);
+
+        // then
+        verify(postMediaRepository).markReady(eq(1L), eq("https://s3.bucket.url/digest.mp4"), any(LocalDateTime.class));
+        verify(fileService, never()).releaseFiles(any());
+        assertFalse(Files.exists(stagingDir.resolve("uuid.mp4")));
+    }
+
+    @Test
+    @DisplayName("업로드 작업_그 사이 미디어가 삭제되었으면 참조를 되돌림")
+    void process_mediaRemoved() throws Exception {
+        // given
+        Files.write(stagingDir.resolve("uuid.mp4"), "video".getBytes());
+        when(fileService.uploadFileToS3(stagingDir.resolve("uuid.mp4"))).thenReturn("https://s3.bucket.url/digest.mp4");
+        when(postMediaRepository.markReady(eq(1L), eq("https://s3.bucket.url/digest.mp4"), any(LocalDateTime.class))).thenReturn(0);
+
+        // when
+        postMediaOutboxService.process(1L, 10L, "uuid.mp4", 1);
+
+        // then
+        verify(fileService).releaseFiles(List.of("https://s3.bucket.url/digest.mp4"));
+        assertFalse(Files.exists(stagingDir.resolve("uuid.mp4")));
+    }
+
+    @Test
+    @DisplayName("업로드 작업_실패하면 대기 파일을 남기고 재시도 예약")
+    void process_retry() throws Exception {
+        // given
+        Files.write(stagingDir.resolve("uuid.mp4"), "video".getBytes());
+        when(fileService.uploadFileToS3(stagingDir.resolve("uuid.mp4")))
+                .thenThrow(new FileException("S3에 파일 업로드 실패"));
+
+        // when
+        postMediaOutboxService.process(1L, 10L, "uuid.mp4", 1);
+
+        // then
+        verify(postMediaRepository).retryLater(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(postMediaRepository, never()).markFailed(eq(1L), any(LocalDateTime.class));
+        assertTrue(Files.exists(stagingDir.resolve("uuid.mp4")));
+    }
+
+    @Test
+    @DisplayName("업로드 작업_최대 횟수를 넘기면 FAILED")
+    void process_failed() throws Exception {
+        // given
+        Files.write(stagingDir.resolve("uuid.mp4"), "video".getBytes());
+        when(fileService.uploadFileToS3(stagingDir.resolve("uuid.mp4")))
+                .thenThrow(new FileException("S3에 파일 업로드 실패"));
+
+        // when
+        postMediaOutboxService.process(1L, 10L, "uuid.mp4", MAX_ATTEMPTS);
+
+        // then
+        verify(postMediaRepository).markFailed(eq(1L), any(LocalDateTime.class));
+        assertFalse(Files.exists(stagingDir.resolve("uuid.mp4")));
+    }
+
+    @Test
+    @DisplayName("대기 미디어 조회_이 서버가 받은 미디어 중 선점한 미디어만 업로드")
+    void poll() throws Exception {
+        // given
+        Files.write(stagingDir.resolve("uuid.mp4"), "video".getBytes());
+        PendingMediaDto claimed = pendingMedia(1L, "uuid.mp4");
+        PendingMediaDto taken = pendingMedia(2L, "other.mp4");
+        // 이 서버가 받은 미디어만 조회한다
+        when(postMediaRepository.findPendingMedia(eq(NODE_ID), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(claimed, taken));
+        when(postMediaRepository.claim(eq(1L), eq(0), any(LocalDateTime.class))).thenReturn(1);
+        when(postMediaRepository.claim(eq(2L), eq(0), any(LocalDateTime.class))).thenReturn(0);
+        when(fileService.uploadFileToS3(stagingDir.resolve("uuid.mp4"))).thenReturn("https://s3.bucket.url/digest.mp4");
+        when(postMediaRepository.markReady(eq(1L), eq("https://s3.bucket.url/digest.mp4"), any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        postMediaOutboxService.poll();
+
+        // then
+        verify(postMediaRepository, timeout(1000)).markReady(eq(1L), eq("https://s3.bucket.url/digest.mp4"), any(LocalDateTime.class));
+        verify(fileService, never()).uploadFileToS3(stagingDir.resolve("other.mp4"));
+    }
+
+    private PendingMediaDto pendingMedia(Long id, String storageKey) {
+        return new PendingMediaDto() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getPostId() {
+                return 10L;
+            }
+
+            @Override
+            public String getStorageKey() {
+                return storageKey;
+            }
+
+            @Override
+            public int getAttempts() {
+                return 0;
+            }
+        };
+    }
+}
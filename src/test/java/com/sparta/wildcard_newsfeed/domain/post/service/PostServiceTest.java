@@ -1,11 +1,25 @@
 package com.sparta.wildcard_newsfeed.domain.post.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.introspector.BuilderArbitraryIntrospector;
 import com.navercorp.fixturemonkey.jakarta.validation.plugin.JakartaValidationPlugin;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCursorResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.PostWithCommentsResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.service.CommentService;
 import com.sparta.wildcard_newsfeed.domain.file.service.FileService;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCursor;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCursorRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCursorResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostMediaResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageResponseDto;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostSliceResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostVersionDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.MediaStatusEnum;
 import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
 import com.sparta.wildcard_newsfeed.domain.post.entity.PostMedia;
 import com.sparta.wildcard_newsfeed.domain.post.repository.PostMediaRepository;
@@ -14,25 +28,41 @@ import com.sparta.wildcard_newsfeed.domain.user.dto.UserSignupRequestDto;
 import com.sparta.wildcard_newsfeed.domain.user.entity.User;
 import com.sparta.wildcard_newsfeed.domain.user.entity.UserRoleEnum;
 import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
+import com.sparta.wildcard_newsfeed.exception.customexception.ExportBusyException;
 import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
 import com.sparta.wildcard_newsfeed.util.FileUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,12 +75,27 @@ class PostServiceTest {
     @Mock
     private PostMediaRepository postMediaRepository;
 
+    @Mock
+    private CommentService commentService;
+
     @Mock
     private FileService fileService;
 
     @Mock
     private FileUtils fileUtils;
 
+    @Mock
+    private PostCountService postCountService;
+
+    @Mock
+    private PostMediaOutboxService postMediaOutboxService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private PostService postService;
 
@@ -81,6 +126,7 @@ class PostServiceTest {
 
         when(userRepository.findByUsercode(mockUser.getUsercode())).thenReturn(Optional.of(mockUser));
         when(postRepository.save(any(Post.class))).thenReturn(domainPost);
+        executeTransactionCallback();
 
         // when
         PostResponseDto result = postService.addPost(requestDto, loginUser);
@@ -92,8 +138,8 @@ class PostServiceTest {
     }
 
     @Test
-    @DisplayName("게시글 생성_실패 - 찾을 수 없는 사용자.")
-    public void should_ThrowException_when_NotFoundUser() {
+    @DisplayName("게시글 생성_성공 - 첨부파일은 트랜잭션 전에 업로드")
+    public void addPost_withFiles() {
         // given
         User mockUser = User.builder()
                 .usercode("testUser1234")
@@ -103,28 +149,76 @@ class PostServiceTest {
                 .userRoleEnum(UserRoleEnum.USER)
                 .build();
         AuthenticationUser loginUser = new AuthenticationUser(mockUser.getUsercode(), mockUser.getPassword());
-        PostRequestDto requestDto = sut.giveMeBuilder(PostRequestDto.class)
-                .setNotNull("title")
-                .setNotNull("content")
-                .setNotNull("files")
-                .sample();
-        Post domainPost = requestDto.toDomainPost(mockUser);
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("files", "test1.jpg", "image/jpeg", "image1".getBytes()),
+                new MockMultipartFile("files", "test2.mp4", "video/mp4", "video2".getBytes()));
+        PostRequestDto requestDto = new PostRequestDto("title", "content", files);
+        List<String> s3Urls = List.of("https://s3.bucket.url/uuid1.jpg", "https://s3.bucket.url/uuid2.mp4");
 
-        List<PostMedia> postMediaList = List.of(new PostMedia(/* 필요한 필드 설정 */));
+        when(userRepository.findByUsercode(mockUser.getUsercode())).thenReturn(Optional.of(mockUser));
+        when(fileService.uploadFilesToS3(files)).thenReturn(s3Urls);
+        when(fileUtils.extractExtension("test1.jpg")).thenReturn("jpg");
+        when(fileUtils.extractExtension("test2.mp4")).thenReturn("mp4");
+        executeTransactionCallback();
 
-        when(userRepository.findByUsercode(mockUser.getUsercode())).thenReturn(Optional.empty());
+        // when
+        PostResponseDto result = postService.addPost(requestDto, loginUser);
+
+        // then
+        assertEquals(s3Urls, result.getS3Urls());
+        InOrder inOrder = inOrder(fileService, transactionTemplate);
+        inOrder.verify(fileService).uploadFilesToS3(files);
+        inOrder.verify(transactionTemplate).execute(any());
+        verify(postMediaRepository).saveAll(argThat(postMedias -> {
+            List<PostMedia> list = new ArrayList<>();
+            postMedias.forEach(list::add);
+            return list.size() == 2
+                    && list.get(0).getUrl().equals(s3Urls.get(0)) && list.get(0).getType().equals("jpg")
+                    && list.get(1).getUrl().equals(s3Urls.get(1)) && list.get(1).getType().equals("mp4");
+        }));
+    }
+
+    @Test
+    @DisplayName("게시글 생성_성공 - 비동기 업로드면 업로드하지 않고 대기 상태로 저장")
+    public void addPost_asyncMedia() {
+        // given
+        User mockUser = User.builder()
+                .usercode("testUser1234")
+                .name("testUsername")
+                .password("currentPWD12@@")
+                .email("email")
+                .userRoleEnum(UserRoleEnum.USER)
+                .build();
+        AuthenticationUser loginUser = new AuthenticationUser(mockUser.getUsercode(), mockUser.getPassword());
+        List<MultipartFile> files = List.of(new MockMultipartFile("files", "test1.mp4", "video/mp4", "video1".getBytes()));
+        PostRequestDto requestDto = new PostRequestDto("title", "content", files);
+
+        when(userRepository.findByUsercode(mockUser.getUsercode())).thenReturn(Optional.of(mockUser));
+        when(postMediaOutboxService.isEnabled()).thenReturn(true);
+        when(postMediaOutboxService.stage(files)).thenReturn(List.of("uuid1.mp4"));
+        when(postMediaOutboxService.getNodeId()).thenReturn("node1");
+        when(fileUtils.extractExtension("test1.mp4")).thenReturn("mp4");
+        executeTransactionCallback();
 
         // when
+        PostResponseDto result = postService.addPost(requestDto, loginUser);
 
         // then
-        assertThrows(IllegalArgumentException.class, () -> postService.addPost(requestDto, loginUser));
+        assertTrue(result.getS3Urls().isEmpty());
+        assertEquals(1, result.getMedias().size());
+        assertEquals(MediaStatusEnum.PENDING, result.getMedias().get(0).getStatus());
+        verify(fileService, never()).uploadFilesToS3(any());
+        verify(postMediaRepository).saveAll(argThat(postMedias -> {
+            PostMedia postMedia = postMedias.iterator().next();
+            return postMedia.getStatus() == MediaStatusEnum.PENDING && postMedia.getStorageKey().equals("uuid1.mp4")
+                    && postMedia.getStagedBy().equals("node1");
+        }));
     }
 
     @Test
-    @DisplayName("게시글 단건 조회_성공")
-    public void findById_success() {
+    @DisplayName("게시글 생성_실패 - 게시물 저장이 실패하면 방금 옮긴 대기 파일 삭제")
+    public void addPost_asyncMedia_transactionFails() {
         // given
-        long postId = 1L;
         User mockUser = User.builder()
                 .usercode("testUser1234")
                 .name("testUsername")
@@ -132,6 +226,59 @@ class PostServiceTest {
                 .email("email")
                 .userRoleEnum(UserRoleEnum.USER)
                 .build();
+        AuthenticationUser loginUser = new AuthenticationUser(mockUser.getUsercode(), mockUser.getPassword());
+        List<MultipartFile> files = List.of(new MockMultipartFile("files", "test1.mp4", "video/mp4", "video1".getBytes()));
+        PostRequestDto requestDto = new PostRequestDto("title", "content", files);
+
+        when(userRepository.findByUsercode(mockUser.getUsercode())).thenReturn(Optional.of(mockUser));
+        when(postMediaOutboxService.isEnabled()).thenReturn(true);
+        when(postMediaOutboxService.stage(files)).thenReturn(List.of("uuid1.mp4"));
+        when(fileUtils.extractExtension("test1.mp4")).thenReturn("mp4");
+        when(transactionTemplate.execute(any())).thenThrow(new IllegalStateException("DB 오류"));
+
+        // when - then
+        assertThrows(IllegalStateException.class, () -> postService.addPost(requestDto, loginUser));
+        verify(postMediaOutboxService).discardPending(argThat(postMedias ->
+                postMedias.size() == 1 && postMedias.get(0).getStorageKey().equals("uuid1.mp4")));
+    }
+
+    @Test
+    @DisplayName("게시글 생성_실패 - 게시물 저장이 실패하면 업로드하며 늘린 참조 수를 되돌림")
+    public void addPost_transactionFails_releasesFiles() {
+        // given
+        User mockUser = User.builder()
+                .usercode("testUser1234")
+                .name("testUsername")
+                .password("currentPWD12@@")
+                .email("email")
+                .userRoleEnum(UserRoleEnum.USER)
+                .build();
+        AuthenticationUser loginUser = new AuthenticationUser(mockUser.getUsercode(), mockUser.getPassword());
+        List<MultipartFile> files = List.of(new MockMultipartFile("files", "test1.jpg", "image/jpeg", "image1".getBytes()));
+        PostRequestDto requestDto = new PostRequestDto("title", "content", files);
+
+        when(userRepository.findByUsercode(mockUser.getUsercode())).thenReturn(Optional.of(mockUser));
+        when(fileService.uploadFilesToS3(files)).thenReturn(List.of("https://s3.bucket.url/digest1.jpg"));
+        when(fileUtils.extractExtension("test1.jpg")).thenReturn("jpg");
+        when(transactionTemplate.execute(any())).thenThrow(new IllegalStateException("DB 오류"));
+
+        // when - then
+        assertThrows(IllegalStateException.class, () -> postService.addPost(requestDto, loginUser));
+        verify(fileService).releaseFiles(List.of("https://s3.bucket.url/digest1.jpg"));
+    }
+
+    @Test
+    @DisplayName("게시글 생성_실패 - 찾을 수 없는 사용자.")
+    public void should_ThrowException_when_NotFoundUser() {
+        // given
+        User mockUser = User.builder()
+                .usercode("testUser1234")
+                .name("testUsername")
+                .password("currentPWD12@@")
+                .email("email")
+                .userRoleEnum(UserRoleEnum.USER)
+                .build();
+        AuthenticationUser loginUser = new AuthenticationUser(mockUser.getUsercode(), mockUser.getPassword());
         PostRequestDto requestDto = sut.giveMeBuilder(PostRequestDto.class)
                 .setNotNull("title")
                 .setNotNull("content")
@@ -139,65 +286,196 @@ class PostServiceTest {
                 .sample();
         Post domainPost = requestDto.toDomainPost(mockUser);
 
-        when(postRepository.findById(postId)).thenReturn(Optional.of(domainPost));
+        List<PostMedia> postMediaList = List.of(new PostMedia(/* 필요한 필드 설정 */));
+
+        when(userRepository.findByUsercode(mockUser.getUsercode())).thenReturn(Optional.empty());
 
         // when
-        PostResponseDto result = postService.findById(postId);
 
         // then
-        assertEquals(domainPost.getTitle(), result.getTitle());
-        assertEquals(domainPost.getContent(), result.getContent());
-        assertEquals(domainPost.getCreatedAt(), result.getCreatedAt());
+        assertThrows(IllegalArgumentException.class, () -> postService.addPost(requestDto, loginUser));
     }
 
     @Test
-    @DisplayName("게시글 단건 조회_실패 - 찾을 수 없는 게시글")
-    public void should_ThrowException_when_NotFoundPost() {
+    @DisplayName("게시글 + 댓글 조회_성공")
+    public void findPostWithComments_success() {
         // given
         long postId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+        PostResponseDto post = new PostResponseDto(postId, "title", "content", "username", now, now, 0L);
+        List<CommentResponseDto> comments = List.of(
+                new CommentResponseDto(postId, 1L, "comment1", "commenter", now, now, 0L),
+                new CommentResponseDto(postId, 2L, "comment2", "commenter", now, now, 0L)
+        );
+        when(postRepository.findPostResponseById(postId)).thenReturn(Optional.of(post));
+        when(postMediaRepository.findMediaResponsesByPostId(postId)).thenReturn(List.of(
+                new PostMediaResponseDto(1L, "url1", "jpg", MediaStatusEnum.READY),
+                new PostMediaResponseDto(2L, null, "mp4", MediaStatusEnum.PENDING)));
+        when(commentService.getFirstCommentPage(postId)).thenReturn(CommentCursorResponseDto.builder()
+                .comments(comments)
+                .nextCursor("next")
+                .hasNext(true)
+                .build());
+
         // when
-        when(postRepository.findById(postId)).thenReturn(Optional.empty());
+        PostWithCommentsResponseDto result = postService.findPostWithComments(postId);
 
-        //then
-        assertThrows(IllegalArgumentException.class, () -> {
-            postService.findById(postId);
-        });
+        // then
+        assertEquals("title", result.getPost().getTitle());
+        assertEquals(List.of("url1"), result.getPost().getS3Urls());
+        assertEquals(MediaStatusEnum.PENDING, result.getPost().getMedias().get(1).getStatus());
+        assertEquals(2, result.getComments().size());
+        assertEquals("next", result.getNextCommentCursor());
+        assertTrue(result.isHasNextComments());
+    }
+
+    @Test
+    @DisplayName("게시글 + 댓글 조회_ETag 는 본문으로 계산 (작성자 이름이 바뀌어도 달라짐)")
+    public void findPostWithComments_etag() {
+        // given
+        long postId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+        when(postRepository.findPostResponseById(postId)).thenReturn(
+                Optional.of(new PostResponseDto(postId, "title", "content", "username", now, now, 0L)),
+                Optional.of(new PostResponseDto(postId, "title", "content", "username", now, now, 0L)),
+                Optional.of(new PostResponseDto(postId, "title", "content", "renamed", now, now, 0L)));
+        when(postMediaRepository.findMediaResponsesByPostId(postId)).thenReturn(List.of());
+        when(commentService.getFirstCommentPage(postId)).thenReturn(CommentCursorResponseDto.builder()
+                .comments(List.of())
+                .hasNext(false)
+                .build());
+
+        // when
+        String etag = postService.findPostWithComments(postId).getEtag();
+        String sameEtag = postService.findPostWithComments(postId).getEtag();
+        String renamedEtag = postService.findPostWithComments(postId).getEtag();
+
+        // then
+        assertNotNull(etag);
+        assertEquals(etag, sameEtag);
+        assertNotEquals(etag, renamedEtag);
+    }
+
+    @Test
+    @DisplayName("게시글 + 댓글 조회_첨부파일 업로드가 실패하면 ETag 가 달라짐")
+    public void findPostWithComments_etagChangesWithMediaStatus() {
+        // given
+        long postId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+        when(postRepository.findPostResponseById(postId)).thenAnswer(invocation ->
+                Optional.of(new PostResponseDto(postId, "title", "content", "username", now, now, 0L)));
+        when(postMediaRepository.findMediaResponsesByPostId(postId)).thenReturn(
+                List.of(new PostMediaResponseDto(1L, null, "mp4", MediaStatusEnum.PENDING)),
+                List.of(new PostMediaResponseDto(1L, null, "mp4", MediaStatusEnum.FAILED)));
+        when(commentService.getFirstCommentPage(postId)).thenReturn(CommentCursorResponseDto.builder()
+                .comments(List.of())
+                .hasNext(false)
+                .build());
+
+        // when
+        String pendingEtag = postService.findPostWithComments(postId).getEtag();
+        String failedEtag = postService.findPostWithComments(postId).getEtag();
+
+        // then
+        assertNotEquals(pendingEtag, failedEtag);
+    }
+
+    @Test
+    @DisplayName("게시글 + 댓글 조회_실패_게시물 없음")
+    public void findPostWithComments_fail() {
+        // given
+        long postId = 1L;
+        when(postRepository.findPostResponseById(postId)).thenReturn(Optional.empty());
+
+        // when - then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> postService.findPostWithComments(postId));
+        assertEquals("해당 게시물이 존재하지 않습니다.", exception.getMessage());
+        verifyNoInteractions(commentService);
     }
 
     @Test
     @DisplayName("게시글 다건 조회_성공")
     public void findAll_success() {
         // given
-        List<Post> postList = new ArrayList<>();
-        for (int i = 0; i < 2; i++) {
-            Post post = sut.giveMeBuilder(Post.class)
-                    .setNotNull("user")
-                    .setNotNull("title")
-                    .setNotNull("content")
-                    .setNotNull("likeCount")
-                    .setNotNull("comments")
-                    .setNotNull("postMedias")
-                    .setNotNull("createAt")
-                    .setNotNull("updatedAt")
-                    .sample();
-            post.setTestDateTime();
-            postList.add(post);
-        }
-
-        when(postRepository.findAll()).thenReturn(postList);
+        LocalDateTime now = LocalDateTime.now();
+        List<PostResponseDto> postList = List.of(
+                new PostResponseDto(2L, "title2", "content2", "username", now, now, 0L),
+                new PostResponseDto(1L, "title1", "content1", "username", now.minusDays(1), now.minusDays(1), 3L)
+        );
+
+        when(postRepository.findPostResponses(PageRequest.of(0, 20))).thenReturn(postList);
+
+        // when
+        List<PostResponseDto> result = postService.findAll(1, 20);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals("content2", result.get(0).getContent());
+        verify(postRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("게시글 다건 조회_실패_페이지 크기 초과")
+    public void findAll_fail_size() {
+        // when - then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> postService.findAll(1, 101));
+        assertEquals("페이지 크기는 1 이상 100 이하만 가능합니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("게시글 다건 조회_ETag 는 작성자 이름이 바뀌어도 달라짐")
+    public void getPostListEtag_changesWithUsername() {
+        // given - 게시물은 그대로이고 작성자 이름만 바뀜
+        LocalDateTime now = LocalDateTime.now();
+        when(postRepository.findPostVersions(PageRequest.of(0, 20))).thenReturn(
+                List.of(postVersion(1L, now, 0L, "username")),
+                List.of(postVersion(1L, now, 0L, "username")),
+                List.of(postVersion(1L, now, 0L, "newUsername")));
 
         // when
-        List<PostResponseDto> result = postService.findAll();
+        String first = postService.getPostListEtag(1, 20);
+        String unchanged = postService.getPostListEtag(1, 20);
+        String renamed = postService.getPostListEtag(1, 20);
 
         // then
-        List<PostResponseDto> expected = postList.stream()
-                .sorted(Comparator.comparing(Post::getCreatedAt).reversed())
-                .map(PostResponseDto::new)
-                .toList();
+        assertEquals(first, unchanged);
+        assertNotEquals(first, renamed);
+    }
+
+
+    @Test
+    @DisplayName("게시글 내보내기_한 줄에 게시물 하나씩 출력")
+    public void exportPosts_success() throws IOException {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        when(postRepository.streamPostResponses()).thenReturn(Stream.of(
+                new PostResponseDto(1L, "title1", "content1", "username", now, now, 0L),
+                new PostResponseDto(2L, "title2", "content2", "username", now, now, 3L)
+        ));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        postService.exportPosts(outputStream);
 
-        assertEquals(expected.get(0).getContent(), result.get(0).getContent());
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1L, objectMapper.readTree(lines[0]).get("id").asLong());
+        assertEquals("title2", objectMapper.readTree(lines[1]).get("title").asText());
     }
 
+    @Test
+    @DisplayName("게시글 내보내기_동시에 실행할 수 있는 수를 넘으면 거절")
+    public void acquireExport_busy() {
+        // given
+        postService.acquireExport();
+        postService.acquireExport();
+
+        // when - then
+        assertThrows(ExportBusyException.class, () -> postService.acquireExport());
+        postService.releaseExport();
+        postService.acquireExport();
+    }
 
     @Test
     @DisplayName("게시글 삭제_성공")
@@ -251,4 +529,149 @@ class PostServiceTest {
         verify(postRepository).findById(postId);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("커서 페이지 조회_성공 - 다음 커서 반환")
+    public void getPostCursorPage_success() {
+        // given
+        PostCursorRequestDto requestDto = PostCursorRequestDto.builder()
+                .size(2)
+                .sortBy("CREATE")
+                .build();
+        LocalDateTime now = LocalDateTime.now();
+        List<PostPageResponseDto> rows = List.of(
+                pageRow(3L, now, 0L),
+                pageRow(2L, now.minusMinutes(1), 0L),
+                pageRow(1L, now.minusMinutes(2), 0L));
+
+        when(postRepository.findPostsByCreatedAtCursor(anyString(), anyString(), any(LocalDateTime.class), eq(Long.MAX_VALUE), eq(3)))
+                .thenReturn(rows);
+
+        // when
+        PostCursorResponseDto result = postService.getPostCursorPage(requestDto);
+
+        // then
+        assertEquals(2, result.getPosts().size());
+        assertTrue(result.isHasNext());
+        PostCursor nextCursor = PostCursor.decode(result.getNextCursor(), "CREATE");
+        assertEquals(2L, nextCursor.getId());
+        assertEquals(now.minusMinutes(1), nextCursor.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("커서 페이지 조회_성공 - 마지막 페이지")
+    public void getPostCursorPage_lastPage() {
+        // given
+        String cursor = PostCursor.ofLiked(5L, 10L).encode();
+        PostCursorRequestDto requestDto = PostCursorRequestDto.builder()
+                .cursor(cursor)
+                .size(2)
+                .sortBy("LIKED")
+                .build();
+        List<PostPageResponseDto> rows = List.of(pageRow(9L, LocalDateTime.now(), 5L));
+
+        when(postRepository.findPostsByLikeCountCursor(anyString(), anyString(), eq(5L), eq(10L), eq(3)))
+                .thenReturn(rows);
+
+        // when
+        PostCursorResponseDto result = postService.getPostCursorPage(requestDto);
+
+        // then
+        assertEquals(1, result.getPosts().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("커서 페이지 조회_실패 - 정렬 기준이 다른 커서")
+    public void getPostCursorPage_invalidCursor() {
+        // given
+        String cursor = PostCursor.ofCreate(LocalDateTime.now(), 1L).encode();
+        PostCursorRequestDto requestDto = PostCursorRequestDto.builder()
+                .cursor(cursor)
+                .size(10)
+                .sortBy("LIKED")
+                .build();
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> postService.getPostCursorPage(requestDto));
+    }
+
+    @Test
+    @DisplayName("슬라이스 페이지 조회_성공 - 캐시된 전체 개수 포함")
+    public void getPostSlice_withTotal() {
+        // given
+        PostPageRequestDto requestDto = PostPageRequestDto.builder()
+                .page(1)
+                .size(2)
+                .sortBy("CREATE")
+                .withTotal(true)
+                .build();
+        LocalDateTime now = LocalDateTime.now();
+        List<PostPageResponseDto> rows = List.of(pageRow(2L, now, 0L), pageRow(1L, now.minusMinutes(1), 0L));
+        Pageable pageable = PageRequest.of(0, 2);
+
+        when(postRepository.findPostSlices(anyString(), anyString(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(rows, pageable, true));
+        when(postCountService.getTotalCount()).thenReturn(5L);
+
+        // when
+        PostSliceResponseDto result = postService.getPostSlice(requestDto);
+
+        // then
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals(5L, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
+    }
+
+    @Test
+    @DisplayName("슬라이스 페이지 조회_성공 - 전체 개수 미요청 시 카운트 조회 안 함")
+    public void getPostSlice_withoutTotal() {
+        // given
+        PostPageRequestDto requestDto = PostPageRequestDto.builder()
+                .page(1)
+                .size(2)
+                .sortBy("LIKED")
+                .build();
+        List<PostPageResponseDto> rows = List.of(pageRow(1L, LocalDateTime.now(), 3L));
+
+        when(postRepository.findPostSlices(anyString(), anyString(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(rows, PageRequest.of(0, 2), false));
+
+        // when
+        PostSliceResponseDto result = postService.getPostSlice(requestDto);
+
+        // then
+        assertFalse(result.isHasNext());
+        assertNull(result.getTotalElements());
+        verify(postCountService, never()).getTotalCount();
+    }
+
+    private PostPageResponseDto pageRow(Long postId, LocalDateTime createdAt, Long likeCount) {
+        return new PostPageResponseDto() {
+            public Long getPostId() { return postId; }
+            public Long getUserId() { return 1L; }
+            public String getTitle() { return "title"; }
+            public String getContent() { return "content"; }
+            public String getName() { return "name"; }
+            public LocalDateTime getCreatedAt() { return createdAt; }
+            public LocalDateTime getUpdatedAt() { return createdAt; }
+            public Long getLikeCount() { return likeCount; }
+        };
+    }
+
+    private PostVersionDto postVersion(Long postId, LocalDateTime updatedAt, Long likeCount, String username) {
+        return new PostVersionDto() {
+            public Long getPostId() { return postId; }
+            public LocalDateTime getUpdatedAt() { return updatedAt; }
+            public Long getLikeCount() { return likeCount; }
+            public String getUsername() { return username; }
+        };
+    }
+
+    // TransactionTemplate 은 콜백을 그대로 실행
+    private void executeTransactionCallback() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+}
@@ -0,0 +1,109 @@
+package com.sparta.wildcard_newsfeed.domain.token.service;
+
+import com.sparta.wildcard_newsfeed.domain.token.dto.TokenResponseDto;
+import com.sparta.wildcard_newsfeed.domain.user.dto.UserResponseFromTokenDto;
+import com.sparta.wildcard_newsfeed.domain.user.service.UserService;
+import com.sparta.wildcard_newsfeed.exception.customexception.TokenNotFoundException;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUserService;
+import com.sparta.wildcard_newsfeed.security.jwt.JwtUtil;
+import com.sparta.wildcard_newsfeed.security.jwt.RefreshTokenManager;
+import com.sparta.wildcard_newsfeed.security.jwt.dto.TokenDto;
+import com.sparta.wildcard_newsfeed.security.jwt.store.InMemoryRefreshTokenStore;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.sparta.wildcard_newsfeed.security.jwt.JwtConstants.ACCESS_TOKEN_HEADER;
+import static com.sparta.wildcard_newsfeed.security.jwt.JwtConstants.REFRESH_TOKEN_HEADER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenServiceTest {
+
+    private static final String USERCODE = "testUser1234";
+
+    @Mock
+    private UserService userService;
+    @Mock
+    private AuthenticationUserService authenticationUserService;
+
+    private JwtUtil jwtUtil;
+    private RefreshTokenManager refreshTokenManager;
+    private TokenService tokenService;
+    private String refreshTokenValue;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret_key",
+                Base64.getEncoder().encodeToString("wildcard-newsfeed-test-secret-key-0123456789".getBytes()));
+        jwtUtil.init();
+        refreshTokenManager = new RefreshTokenManager(new InMemoryRefreshTokenStore(), authenticationUserService, Duration.ZERO);
+        tokenService = new TokenService(jwtUtil, userService, refreshTokenManager);
+
+        TokenDto tokenDto = jwtUtil.generateAccessTokenAndRefreshToken(USERCODE);
+        refreshTokenValue = tokenDto.getRefreshToken().substring(7);
+        request = new MockHttpServletRequest();
+        request.addHeader(ACCESS_TOKEN_HEADER, tokenDto.getAccessToken());
+        request.addHeader(REFRESH_TOKEN_HEADER, tokenDto.getRefreshToken());
+        when(userService.findByUsercode(USERCODE))
+                .thenReturn(UserResponseFromTokenDto.builder().usercode(USERCODE).build());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급_저장소에 있는 토큰은 폐기하고 새 토큰 등록")
+    void getFindUser_storeHit() {
+        // given
+        refreshTokenManager.register(jwtUtil.validateAndGetClaims(request, refreshTokenValue));
+        Claims refreshClaims = tokenService.validateTokenExpire(request);
+
+        // when
+        TokenResponseDto result = tokenService.getFindUser(request, refreshClaims);
+
+        // then
+        assertEquals(USERCODE, result.getUsercode());
+        verify(userService).updateRefreshToken(eq(USERCODE), anyString());
+        verify(userService, never()).rotateRefreshToken(anyString(), anyString(), anyString());
+        assertTrue(refreshTokenManager.revoke(jwtUtil.validateAndGetClaims(request, result.getRefreshToken().substring(7))));
+        // 사용한 토큰은 다시 쓸 수 없다 (사용자 테이블의 값도 바뀌었으므로)
+        when(userService.rotateRefreshToken(eq(USERCODE), eq(refreshTokenValue), anyString())).thenReturn(false);
+        assertThrows(TokenNotFoundException.class, () -> tokenService.getFindUser(request, refreshClaims));
+    }
+
+    @Test
+    @DisplayName("토큰 재발급_재시작으로 저장소가 비어 있으면 사용자 테이블 값을 바꾼 요청 하나만 성공")
+    void getFindUser_storeMiss_compareAndSet() {
+        // given - 사용자 테이블의 조건부 update 를 흉내낸다
+        AtomicReference<String> storedRefreshToken = new AtomicReference<>(refreshTokenValue);
+        when(userService.rotateRefreshToken(eq(USERCODE), anyString(), anyString())).thenAnswer(invocation ->
+                storedRefreshToken.compareAndSet(invocation.getArgument(1), invocation.getArgument(2)));
+
+        Claims refreshClaims = tokenService.validateTokenExpire(request);
+
+        // when
+        TokenResponseDto result = tokenService.getFindUser(request, refreshClaims);
+
+        // then
+        assertEquals(storedRefreshToken.get(), result.getRefreshToken().substring(7));
+        assertThrows(TokenNotFoundException.class, () -> tokenService.getFindUser(request, refreshClaims));
+        verify(userService, never()).updateRefreshToken(anyString(), anyString());
+    }
+}
@@ -11,6 +11,7 @@ import com.sparta.wildcard_newsfeed.domain.user.entity.UserStatusEnum;
 import com.sparta.wildcard_newsfeed.domain.user.repository.AuthCodeRepository;
 import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
 import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -45,6 +46,8 @@ public class UserServiceTest {
     private ApplicationEventPublisher eventPublisher;
     @Mock
     private FileService fileService;
+    @Mock
+    private AuthenticationUserService authenticationUserService;
 
     @InjectMocks
     private UserService userService;
@@ -0,0 +1,196 @@
+package com.sparta.wildcard_newsfeed.security;
+
+import com.sparta.wildcard_newsfeed.exception.customexception.PasswordHashingBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    @DisplayName("해싱_BCrypt 결과는 그대로 사용")
+    void encodeAndMatches() {
+        // given
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(), 2, 10, Duration.ofSeconds(5));
+
+        // when
+        String encoded = passwordEncoder.encode("currentPWD12@@");
+
+        // then
+        assertTrue(passwordEncoder.matches("currentPWD12@@", encoded));
+        assertTrue(new BCryptPasswordEncoder().matches("currentPWD12@@", encoded));
+    }
+
+    @Test
+    @DisplayName("해싱_동시 실행 수 제한")
+    void concurrencyLimit() throws Exception {
+        // given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        PasswordEncoder slowEncoder = new SlowPasswordEncoder(running, maxRunning, null);
+        passwordEncoder = new BoundedPasswordEncoder(slowEncoder, 2, 100, Duration.ofSeconds(10));
+        ExecutorService requestThreads = Executors.newFixedThreadPool(16);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            results.add(requestThreads.submit(() -> passwordEncoder.encode("password")));
+        }
+        for (Future<String> result : results) {
+            result.get();
+        }
+        requestThreads.shutdown();
+
+        // then
+        assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("해싱_대기열이 가득 차면 바로 거절")
+    void rejectWhenQueueFull() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new SlowPasswordEncoder(new AtomicInteger(), new AtomicInteger(), release);
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1, Duration.ofSeconds(10));
+        ExecutorService requestThreads = Executors.newFixedThreadPool(2);
+        requestThreads.submit(() -> passwordEncoder.encode("running"));
+        requestThreads.submit(() -> passwordEncoder.encode("queued"));
+        Thread.sleep(200);
+
+        // when - then
+        long startTime = System.nanoTime();
+        assertThrows(PasswordHashingBusyException.class, () -> passwordEncoder.encode("rejected"));
+        log.info("거절까지 {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+
+        release.countDown();
+        requestThreads.shutdown();
+    }
+
+    @Test
+    @DisplayName("해싱_로그인이 몰려도 동시 실행 수 + 대기열 만큼의 요청 스레드만 붙잡힘")
+    void burstHoldsOnlyConcurrencyPlusQueue() throws Exception {
+        // given - 설정값과 같은 동시 실행 4, 대기열 16 에 서블릿 스레드 풀 크기만큼의 요청
+        int concurrency = 4;
+        int queueCapacity = 16;
+        int requests = 200;
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new SlowPasswordEncoder(new AtomicInteger(), new AtomicInteger(), release);
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder, concurrency, queueCapacity, Duration.ofSeconds(10));
+        ExecutorService requestThreads = Executors.newFixedThreadPool(requests);
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger slowRejections = new AtomicInteger();
+        CountDownLatch rejectedAll = new CountDownLatch(requests - concurrency - queueCapacity);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            results.add(requestThreads.submit(() -> {
+                long startTime = System.nanoTime();
+                try {
+                    return passwordEncoder.encode("password");
+                } catch (PasswordHashingBusyException e) {
+                    rejected.incrementAndGet();
+                    if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) > 500) {
+                        slowRejections.incrementAndGet();
+                    }
+                    rejectedAll.countDown();
+                    throw e;
+                }
+            }));
+        }
+
+        // then - 나머지 요청은 해싱이 끝나기를 기다리지 않고 바로 거절되어 스레드를 돌려준다
+        assertTrue(rejectedAll.await(5, TimeUnit.SECONDS));
+        assertEquals(requests - concurrency - queueCapacity, rejected.get());
+        assertEquals(0, slowRejections.get());
+
+        release.countDown();
+        int succeeded = 0;
+        for (Future<String> result : results) {
+            try {
+                result.get();
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof PasswordHashingBusyException);
+            }
+        }
+        requestThreads.shutdown();
+        assertEquals(concurrency + queueCapacity, succeeded);
+    }
+
+    @Test
+    @DisplayName("해싱_대기 시간이 지나면 거절")
+    void rejectOnTimeout() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new SlowPasswordEncoder(new AtomicInteger(), new AtomicInteger(), release);
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder, 1, 10, Duration.ofMillis(100));
+
+        // when - then
+        assertThrows(PasswordHashingBusyException.class, () -> passwordEncoder.matches("password", "encoded"));
+        release.countDown();
+    }
+
+    // 해싱 대신 일정 시간 대기하며 동시 실행 수를 기록
+    private static class SlowPasswordEncoder implements PasswordEncoder {
+
+        private final AtomicInteger running;
+        private final AtomicInteger maxRunning;
+        private final CountDownLatch release;
+
+        SlowPasswordEncoder(AtomicInteger running, AtomicInteger maxRunning, CountDownLatch release) {
+            this.running = running;
+            this.maxRunning = maxRunning;
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            int current = running.incrementAndGet();
+            maxRunning.accumulateAndGet(current, Math::max);
+            try {
+                if (release == null) {
+                    Thread.sleep(20);
+                } else {
+                    release.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
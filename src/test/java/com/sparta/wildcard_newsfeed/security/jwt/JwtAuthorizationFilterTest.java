@@ -0,0 +1,206 @@
+package com.sparta.wildcard_newsfeed.security.jwt;
+
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.domain.user.entity.UserRoleEnum;
+import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUserService;
+import com.sparta.wildcard_newsfeed.security.jwt.dto.TokenDto;
+import com.sparta.wildcard_newsfeed.security.jwt.enums.JwtPropertiesEnum;
+import com.sparta.wildcard_newsfeed.security.jwt.store.InMemoryRefreshTokenStore;
+import com.sparta.wildcard_newsfeed.security.jwt.store.InMemoryRevokedTokenStore;
+import com.sparta.wildcard_newsfeed.security.jwt.store.RefreshTokenStore;
+import com.sparta.wildcard_newsfeed.security.jwt.store.RevokedTokenStore;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+import static com.sparta.wildcard_newsfeed.security.jwt.JwtConstants.ACCESS_TOKEN_HEADER;
+import static com.sparta.wildcard_newsfeed.security.jwt.JwtConstants.REFRESH_TOKEN_HEADER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+class JwtAuthorizationFilterTest {
+
+    private static final String USERCODE = "testUser1234";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private JwtUtil jwtUtil;
+    private AuthenticationUserService authenticationUserService;
+    private RefreshTokenStore refreshTokenStore;
+    private RevokedTokenStore revokedTokenStore;
+    private JwtAuthorizationFilter filter;
+    private TokenDto tokenDto;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret_key",
+                Base64.getEncoder().encodeToString("wildcard-newsfeed-test-secret-key-0123456789".getBytes()));
+        jwtUtil.init();
+        authenticationUserService =
+                new AuthenticationUserService(userRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        refreshTokenStore = new InMemoryRefreshTokenStore();
+        revokedTokenStore = new InMemoryRevokedTokenStore(Duration.ofMinutes(1).toMillis());
+        // 기본은 access token 만료가 임박하지 않은 상태 (refresh token 확인 안 함)
+        filter = createFilter(Duration.ZERO);
+
+        tokenDto = jwtUtil.generateAccessTokenAndRefreshToken(USERCODE);
+        user = User.builder()
+                .usercode(USERCODE)
+                .name("testUsername")
+                .password("currentPWD12@@")
+                .email("email")
+                .userRoleEnum(UserRoleEnum.USER)
+                .build();
+        user.setRefreshToken(tokenDto.getRefreshToken().substring(7));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("인가 필터_사용자는 캐시에 없을 때 한 번만 조회")
+    void doFilter_loadsUserOnce() throws Exception {
+        // given
+        when(userRepository.findByUsercode(USERCODE)).thenReturn(Optional.of(user));
+
+        // when
+        filter.doFilter(createRequest(), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(createRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(USERCODE, SecurityContextHolder.getContext().getAuthentication().getName());
+        verify(userRepository, times(1)).findByUsercode(USERCODE);
+    }
+
+    @Test
+    @DisplayName("인가 필터_access token 만료 임박 시 저장소의 refresh token 확인")
+    void doFilter_checksRefreshTokenStoreNearExpiry() throws Exception {
+        // given
+        filter = createFilter(Duration.ofDays(2));
+        when(userRepository.findByUsercode(USERCODE)).thenReturn(Optional.of(user));
+        RefreshTokenManager refreshTokenManager = new RefreshTokenManager(refreshTokenStore, authenticationUserService, Duration.ZERO);
+        refreshTokenManager.register(jwtUtil.validateAndGetClaims(new MockHttpServletRequest(), tokenDto.getRefreshToken().substring(7)));
+
+        // when
+        filter.doFilter(createRequest(), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(createRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(userRepository, times(1)).findByUsercode(USERCODE);
+    }
+
+    @Test
+    @DisplayName("인가 필터_폐기된 refresh token 이면 인증하지 않음")
+    void doFilter_revokedRefreshToken() throws Exception {
+        // given
+        filter = createFilter(Duration.ofDays(2));
+        user.setRefreshToken(null); // 로그아웃
+        when(userRepository.findByUsercode(USERCODE)).thenReturn(Optional.of(user));
+
+        // when
+        filter.doFilter(createRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("인가 필터_폐기 목록이 비어 있어도(재시작/다른 서버) 로그아웃한 사용자면 거절")
+    void doFilter_loggedOutUserAfterRestart() throws Exception {
+        // given - 만료가 임박하지 않아 refresh token 은 확인하지 않는 상태
+        user.setRefreshToken(null); // 로그아웃
+        when(userRepository.findByUsercode(USERCODE)).thenReturn(Optional.of(user));
+        MockHttpServletRequest request = createRequest();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(JwtPropertiesEnum.REVOKED_JWT_TOKEN.getErrorMessage(), request.getAttribute("jwtException"));
+    }
+
+    @Test
+    @DisplayName("인가 필터_로그아웃된 access token 이면 DB 조회 없이 거절")
+    void doFilter_revokedAccessToken() throws Exception {
+        // given
+        Claims accessClaims = jwtUtil.validateAndGetClaims(new MockHttpServletRequest(), tokenDto.getAccessToken().substring(7));
+        revokedTokenStore.revoke(accessClaims.getId(), accessClaims.getExpiration());
+        MockHttpServletRequest request = createRequest();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(JwtPropertiesEnum.REVOKED_JWT_TOKEN.getErrorMessage(), request.getAttribute("jwtException"));
+        verify(userRepository, never()).findByUsercode(USERCODE);
+    }
+
+    @Test
+    @DisplayName("인가 필터_반복 요청 처리량")
+    void doFilter_throughput() throws Exception {
+        // given
+        when(userRepository.findByUsercode(USERCODE)).thenReturn(Optional.of(user));
+        int warmUp = 1_000;
+        int iterations = 10_000;
+        for (int i = 0; i < warmUp; i++) {
+            filter.doFilter(createRequest(), new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        // when
+        long startTime = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            filter.doFilter(createRequest(), new MockHttpServletResponse(), new MockFilterChain());
+        }
+        double elapsedMicros = (System.nanoTime() - startTime) / 1_000.0;
+
+        // then
+        log.info("인가 필터 {}회, 요청당 {}us", iterations, elapsedMicros / iterations);
+        verify(userRepository, times(1)).findByUsercode(USERCODE);
+    }
+
+    private JwtAuthorizationFilter createFilter(Duration refreshCheckBeforeExpiry) {
+        RefreshTokenManager refreshTokenManager =
+                new RefreshTokenManager(refreshTokenStore, authenticationUserService, refreshCheckBeforeExpiry);
+        return new JwtAuthorizationFilter(jwtUtil, authenticationUserService, refreshTokenManager, revokedTokenStore);
+    }
+
+    private MockHttpServletRequest createRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ACCESS_TOKEN_HEADER, tokenDto.getAccessToken());
+        request.addHeader(REFRESH_TOKEN_HEADER, tokenDto.getRefreshToken());
+        return request;
+    }
+}
@@ -0,0 +1,138 @@
+package com.sparta.wildcard_newsfeed.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@Slf4j
+class JwtUtilTest {
+
+    private static final byte[] SECRET = "wildcard-newsfeed-test-secret-key-0123456789".getBytes();
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret_key", Base64.getEncoder().encodeToString(SECRET));
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", 100L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheMaxTtl", Duration.ofMinutes(5));
+        jwtUtil.init();
+    }
+
+    @Test
+    @DisplayName("토큰 검증_성공 - 검증과 함께 Claims 반환")
+    void validateAndGetClaims_success() {
+        // given
+        String token = jwtUtil.createAccessToken("testUser1234").substring(7);
+
+        // when
+        Claims claims = jwtUtil.validateAndGetClaims(new MockHttpServletRequest(), token);
+
+        // then
+        assertNotNull(claims);
+        assertEquals("testUser1234", claims.getSubject());
+        assertEquals("access", claims.get("tokenType"));
+    }
+
+    @Test
+    @DisplayName("토큰 검증_실패 - 만료된 토큰")
+    void validateAndGetClaims_expired() {
+        // given
+        Date past = new Date(System.currentTimeMillis() - 1000);
+        String token = Jwts.builder()
+                .setSubject("testUser1234")
+                .setExpiration(past)
+                .signWith(Keys.hmacShaKeyFor(SECRET), SignatureAlgorithm.HS256)
+                .compact();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        // when
+        Claims claims = jwtUtil.validateAndGetClaims(request, token);
+
+        // then
+        assertNull(claims);
+        assertNotNull(request.getAttribute("jwtException"));
+    }
+
+    @Test
+    @DisplayName("토큰 검증_실패 - 서명 위조")
+    void validateAndGetClaims_invalidSignature() {
+        // given
+        String token = Jwts.builder()
+                .setSubject("testUser1234")
+                .signWith(Keys.hmacShaKeyFor("another-secret-key-for-signature-test-000".getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        Claims claims = jwtUtil.validateAndGetClaims(new MockHttpServletRequest(), token);
+
+        // then
+        assertNull(claims);
+    }
+
+    @Test
+    @DisplayName("토큰 검증_같은 토큰은 캐시된 Claims 반환, 무효화 후에는 다시 검증")
+    void validateAndGetClaims_cached() {
+        // given
+        String token = jwtUtil.createAccessToken("testUser1234").substring(7);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        Claims first = jwtUtil.validateAndGetClaims(request, token);
+
+        // when
+        Claims second = jwtUtil.validateAndGetClaims(request, token);
+        jwtUtil.invalidateVerifiedToken(token);
+        Claims third = jwtUtil.validateAndGetClaims(request, token);
+
+        // then
+        assertSame(first, second);
+        assertNotSame(first, third);
+        assertEquals(first.getSubject(), third.getSubject());
+    }
+
+    @Test
+    @DisplayName("토큰 검증_처리량 및 토큰당 할당량")
+    void validateAndGetClaims_throughput() {
+        // given
+        String token = jwtUtil.createAccessToken("testUser1234").substring(7);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        int warmUp = 10_000;
+        int iterations = 50_000;
+        for (int i = 0; i < warmUp; i++) {
+            jwtUtil.validateAndGetClaims(request, token);
+        }
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        // when
+        long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            jwtUtil.validateAndGetClaims(request, token);
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        // then
+        log.info("토큰 검증 {}회, 초당 {}건, 토큰당 {}ns, 토큰당 {}bytes 할당",
+                iterations, (long) (iterations / (elapsedNanos / 1_000_000_000.0)), elapsedNanos / iterations, allocatedBytes / iterations);
+    }
+}
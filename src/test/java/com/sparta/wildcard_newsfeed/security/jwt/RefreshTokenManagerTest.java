@@ -0,0 +1,147 @@
+package com.sparta.wildcard_newsfeed.security.jwt;
+
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.domain.user.entity.UserRoleEnum;
+import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUserService;
+import com.sparta.wildcard_newsfeed.security.jwt.store.InMemoryRefreshTokenStore;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenManagerTest {
+
+    private static final String USERCODE = "testUser1234";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private RefreshTokenManager refreshTokenManager;
+    private String refreshTokenValue;
+    private Claims refreshClaims;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret_key",
+                Base64.getEncoder().encodeToString("wildcard-newsfeed-test-secret-key-0123456789".getBytes()));
+        jwtUtil.init();
+        AuthenticationUserService authenticationUserService =
+                new AuthenticationUserService(userRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        refreshTokenManager = new RefreshTokenManager(new InMemoryRefreshTokenStore(), authenticationUserService, Duration.ZERO);
+
+        refreshTokenValue = jwtUtil.generateAccessTokenAndRefreshToken(USERCODE).getRefreshToken().substring(7);
+        refreshClaims = jwtUtil.validateAndGetClaims(new MockHttpServletRequest(), refreshTokenValue);
+        user = User.builder()
+                .usercode(USERCODE)
+                .name("testUsername")
+                .password("currentPWD12@@")
+                .email("email")
+                .userRoleEnum(UserRoleEnum.USER)
+                .build();
+    }
+
+    @Test
+    @DisplayName("refresh token 폐기_같은 토큰은 한 번만 폐기")
+    void revoke_onlyOnce() {
+        // given
+        refreshTokenManager.register(refreshClaims);
+
+        // when - then
+        assertTrue(refreshTokenManager.revoke(refreshClaims));
+        assertFalse(refreshTokenManager.revoke(refreshClaims));
+        verify(userRepository, never()).findByUsercode(USERCODE);
+    }
+
+    @Test
+    @DisplayName("refresh token 폐기_동시에 같은 토큰을 폐기하면 하나만 성공")
+    void revoke_concurrent() throws Exception {
+        // given
+        refreshTokenManager.register(refreshClaims);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        Callable<Boolean> task = () -> {
+            start.await();
+            return refreshTokenManager.revoke(refreshClaims);
+        };
+
+        // when
+        try {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(task));
+            }
+            start.countDown();
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    succeeded++;
+                }
+            }
+
+            // then
+            assertEquals(1, succeeded);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("refresh token 확인_저장소에 없으면 사용자 테이블 값과 비교 후 다시 등록")
+    void isActive_storeMiss_registersFromUser() {
+        // given - 서버 재시작 등으로 저장소가 비어 있는 상태
+        user.setRefreshToken(refreshTokenValue);
+        when(userRepository.findByUsercode(USERCODE)).thenReturn(Optional.of(user));
+
+        // when
+        boolean firstCheck = refreshTokenManager.isActive(refreshClaims, refreshTokenValue);
+        boolean secondCheck = refreshTokenManager.isActive(refreshClaims, refreshTokenValue);
+
+        // then - 다시 등록되어 두 번째는 사용자 테이블을 읽지 않는다
+        assertTrue(firstCheck);
+        assertTrue(secondCheck);
+        verify(userRepository, times(1)).findByUsercode(USERCODE);
+        assertTrue(refreshTokenManager.revoke(refreshClaims));
+    }
+
+    @Test
+    @DisplayName("refresh token 확인_저장소에 없고 사용자 테이블 값과도 다르면 거절")
+    void isActive_storeMiss_mismatch() {
+        // given
+        user.setRefreshToken(null); // 로그아웃
+        when(userRepository.findByUsercode(USERCODE)).thenReturn(Optional.of(user));
+
+        // when - then
+        assertFalse(refreshTokenManager.isActive(refreshClaims, refreshTokenValue));
+        assertFalse(refreshTokenManager.revoke(refreshClaims));
+    }
+}
@@ -0,0 +1,78 @@
+package com.sparta.wildcard_newsfeed.security.jwt.store;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryRefreshTokenStoreTest {
+
+    private static final String USERCODE = "testUser1234";
+
+    private InMemoryRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRefreshTokenStore();
+    }
+
+    @Test
+    @DisplayName("refresh token 저장소_발급한 사용자의 만료되지 않은 토큰만 유효")
+    void isActive() {
+        // given
+        store.save("jti", USERCODE, afterMinutes(10));
+        store.save("expired", USERCODE, afterMinutes(-1));
+
+        // when - then
+        assertTrue(store.isActive("jti", USERCODE));
+        assertFalse(store.isActive("jti", "otherUser1234"));
+        assertFalse(store.isActive("expired", USERCODE));
+        assertFalse(store.isActive("unknown", USERCODE));
+    }
+
+    @Test
+    @DisplayName("refresh token 저장소_폐기는 처음 한 번만 true")
+    void revoke_onlyOnce() {
+        // given
+        store.save("jti", USERCODE, afterMinutes(10));
+
+        // when - then
+        assertTrue(store.revoke("jti"));
+        assertFalse(store.revoke("jti"));
+        assertFalse(store.isActive("jti", USERCODE));
+    }
+
+    @Test
+    @DisplayName("refresh token 저장소_만료된 토큰 폐기는 false")
+    void revoke_expired() {
+        // given
+        store.save("expired", USERCODE, afterMinutes(-1));
+
+        // when - then
+        assertFalse(store.revoke("expired"));
+        assertFalse(store.revoke("unknown"));
+    }
+
+    @Test
+    @DisplayName("refresh token 저장소_만료된 토큰 정리")
+    void purgeExpired() {
+        // given
+        store.save("jti", USERCODE, afterMinutes(10));
+        store.save("expired", USERCODE, afterMinutes(-1));
+
+        // when
+        store.purgeExpired();
+
+        // then
+        assertTrue(store.revoke("jti"));
+        assertFalse(store.revoke("expired"));
+    }
+
+    private Date afterMinutes(long minutes) {
+        return new Date(System.currentTimeMillis() + minutes * 60_000);
+    }
+}